@@ -0,0 +1,36 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.Constants;
+import bricker.main.KeyInput;
+
+/**
+ * Helpers for creating the headless games used by the benchmarks.
+ */
+final class BenchmarkGames {
+    /**
+     * The fixed time step of a benchmarked tick, in seconds.
+     */
+    static final float DELTA_TIME = 1f / 60;
+    /**
+     * The random seed of every benchmarked game, so all runs measure the same layout and trajectories.
+     */
+    static final long SEED = 42;
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * Creates and initializes a seeded headless game with no key input.
+     *
+     * @param numBricksInRow The number of bricks in a row.
+     * @param numRows        The number of rows of bricks.
+     * @return The initialized game.
+     */
+    static BrickerGameManager headlessGame(int numBricksInRow, int numRows) {
+        BrickerGameManager game = new BrickerGameManager(Constants.WINDOW_TITLE, Constants.WINDOW_DIMENSIONS,
+                numBricksInRow, numRows, SEED);
+        game.initializeHeadless(KeyInput.NONE);
+        return game;
+    }
+}
@@ -0,0 +1,72 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BrickStrategyFactory;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.main.BrickerGameManager;
+import bricker.main.Constants;
+import bricker.main.GameTools;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a ball hitting a brick, dispatched through the brick's CollisionStrategy.
+ * A hit removes its brick and may spawn objects, so every iteration starts a fresh headless game and
+ * hits a batch of distinct bricks once each. Strategy number 4 returns CompositeStrategy instances, some
+ * of them flattened from a nested double.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = CollisionDispatchBenchmark.HITS_PER_ITERATION)
+@Measurement(iterations = 50, batchSize = CollisionDispatchBenchmark.HITS_PER_ITERATION)
+public class CollisionDispatchBenchmark {
+    static final int HITS_PER_ITERATION = 1000;
+
+    @Param({"5", "0", "1", "2", "3", "4"})
+    private int stratNum;
+
+    private Brick[] bricks;
+    private Ball ball;
+    private int nextBrick;
+
+    /**
+     * Starts a fresh headless game and creates a batch of bricks with the benchmarked strategy.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BrickerGameManager game = BenchmarkGames.headlessGame(Constants.DEF_NUM_BRICKS_IN_ROW,
+                Constants.DEF_NUM_ROWS);
+        GameTools tools = game.getGameTools();
+        BrickStrategyFactory strategyFactory = new BrickStrategyFactory(game, tools);
+        Vector2 brickDimensions = new Vector2(Constants.PADDLE_WIDTH, Constants.BRICK_HEIGHT);
+        bricks = new Brick[HITS_PER_ITERATION];
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = new Brick(Vector2.ZERO, brickDimensions, null, strategyFactory.buildStrategy(stratNum),
+                    tools.getFrameProfiler());
+            tools.getGameObjects().addGameObject(bricks[i], Constants.BRICK_LAYER);
+        }
+        ball = new Ball(Vector2.ZERO, new Vector2(Constants.BALL_SIZE, Constants.BALL_SIZE), null, null, tools);
+        nextBrick = 0;
+    }
+
+    /**
+     * Hits the next brick of the batch.
+     */
+    @Benchmark
+    public void hitBrick() {
+        bricks[nextBrick++].applyStrategy(ball);
+    }
+}
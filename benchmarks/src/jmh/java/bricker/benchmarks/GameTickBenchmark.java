@@ -0,0 +1,56 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.GameResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full headless game ticks (BrickerGameManager.update) for growing brick grids.
+ * Every iteration starts a fresh game and steps it for a batch of ticks, short enough for the game to
+ * still be running.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = GameTickBenchmark.TICKS_PER_ITERATION)
+@Measurement(iterations = 30, batchSize = GameTickBenchmark.TICKS_PER_ITERATION)
+public class GameTickBenchmark {
+    static final int TICKS_PER_ITERATION = 120;
+
+    /**
+     * The brick grid, as bricks in a row x rows: 56, 1,000 and 100,000 bricks.
+     */
+    @Param({"8x7", "40x25", "400x250"})
+    private String grid;
+
+    private BrickerGameManager game;
+
+    /**
+     * Starts a fresh headless game with the benchmarked grid.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        String[] size = grid.split("x");
+        game = BenchmarkGames.headlessGame(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
+
+    /**
+     * @return The result of the game after the tick, so it is not optimized away.
+     */
+    @Benchmark
+    public GameResult tick() {
+        return game.step(BenchmarkGames.DELTA_TIME);
+    }
+}
@@ -0,0 +1,47 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BrickStrategyFactory;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.main.BrickerGameManager;
+import bricker.main.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of BrickStrategyFactory.buildStrategy for each strategy number.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StrategyFactoryBenchmark {
+    @Param({"0", "1", "2", "3", "4", "5"})
+    private int stratNum;
+
+    private BrickStrategyFactory strategyFactory;
+
+    /**
+     * Creates a factory for a default sized headless game.
+     */
+    @Setup
+    public void setUp() {
+        BrickerGameManager game = BenchmarkGames.headlessGame(Constants.DEF_NUM_BRICKS_IN_ROW,
+                Constants.DEF_NUM_ROWS);
+        strategyFactory = new BrickStrategyFactory(game, game.getGameTools());
+    }
+
+    /**
+     * @return The built strategy, so it is not optimized away.
+     */
+    @Benchmark
+    public CollisionStrategy buildStrategy() {
+        return strategyFactory.buildStrategy(stratNum);
+    }
+}
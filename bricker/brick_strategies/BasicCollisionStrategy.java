@@ -1,42 +1,67 @@
 package bricker.brick_strategies;
 
+import bricker.gameobjects.BrickGrid;
+import bricker.main.Constants;
+import bricker.main.GameEvent;
+import bricker.main.GameEventQueue;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
 import danogl.util.Counter;
 
 /**
  * Represents a basic collision strategy for bricks in the Bricker game.
- * When a brick collides with another object, it is removed from the game, and the bricks counter is
- * decremented.
+ * When a brick collides with another object, it is removed from the game, the bricks counter is
+ * decremented, and a BRICK_DESTROYED event is published. Subclasses add an effect on top of the removal
+ * by overriding applyEffect, which lets a CompositeStrategy combine effects while removing the brick only
+ * once.
  */
 public class BasicCollisionStrategy implements CollisionStrategy {
     GameObjectCollection gameObjects;
     private Counter bricksCounter;
+    private final BrickGrid brickGrid;
+    private final GameEventQueue eventQueue;
 
     /**
      * Constructs a new BasicCollisionStrategy instance.
      *
      * @param gameObjects   The collection of game objects.
      * @param bricksCounter The counter for tracking the number of remaining bricks.
+     * @param brickGrid     The grid index of the bricks.
+     * @param eventQueue    The queue of the game events.
      */
-    public BasicCollisionStrategy(GameObjectCollection gameObjects, Counter bricksCounter) {
+    public BasicCollisionStrategy(GameObjectCollection gameObjects, Counter bricksCounter,
+                                  BrickGrid brickGrid, GameEventQueue eventQueue) {
 
         this.gameObjects = gameObjects;
         this.bricksCounter = bricksCounter;
+        this.brickGrid = brickGrid;
+        this.eventQueue = eventQueue;
     }
 
     /**
      * Handles the collision event for the brick.
-     * Removes the brick from the game and decrements the bricks counter.
+     * Removes the brick from the game and its grid cell, decrements the bricks counter, publishes a
+     * BRICK_DESTROYED event, and applies the strategy's effect.
      *
      * @param thisObj  The brick object that is involved in the collision.
      * @param otherObj The other game object that the brick collided with.
      */
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        if(gameObjects.removeGameObject(thisObj, Layer.STATIC_OBJECTS)) {
+        if(gameObjects.removeGameObject(thisObj, Constants.BRICK_LAYER)) {
+            brickGrid.removeBrick(thisObj);
             bricksCounter.decrement();
+            eventQueue.publish(GameEvent.BRICK_DESTROYED);
         }
+        applyEffect(thisObj, otherObj);
+    }
+
+    /**
+     * Applies the strategy's effect beyond removing the brick. The basic strategy has none.
+     *
+     * @param thisObj  The brick object that is involved in the collision.
+     * @param otherObj The other game object that the brick collided with.
+     */
+    void applyEffect(GameObject thisObj, GameObject otherObj) {
     }
 
 }
@@ -3,66 +3,225 @@ package bricker.brick_strategies;
 import bricker.main.BrickerGameManager;
 import bricker.main.GameTools;
 import bricker.main.Constants;
-import danogl.collisions.GameObjectCollection;
-import danogl.util.Counter;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Random;
 
 /**
- * A factory for creating different collision strategies for bricks in the Bricker game.
+ * A registry of the collision strategies for bricks in the Bricker game.
+ * Strategies keep no per-brick state (the brick is passed to onCollision), so every brick with the same
+ * behavior shares one strategy instance. The registry hands out small integer ids for the shared instances,
+ * which the BrickGrid stores per cell, and double strategies are interned by their two children, so a level
+ * of any size holds a few dozen strategy objects at most. A double strategy is a CompositeStrategy, which
+ * flattens a nested double into one list of effects.
+ * <p>
+ * Strategies are drawn by weight. The default weights are in Constants, and can be overridden by a
+ * properties file named by the bricker.strategies system property, mapping strategy names to weights.
  */
 public class BrickStrategyFactory {
     private final BrickerGameManager gameManager;
     private final GameTools tools;
-    private final GameObjectCollection gameObjects;
-    private final Counter brickCounter;
-    private boolean alreadyDouble = false;
-    private final Random random = new Random();
+    private final Random random;
+    private final int[] cumulativeWeights;
+    private final List<BasicCollisionStrategy> strategies = new ArrayList<>();
+    private final Map<String, Integer> strategyIds = new HashMap<>();
 
 
     /**
-     * Constructs a new BrickStrategyFactory instance.
+     * Constructs a new BrickStrategyFactory instance, with the weights of the bricker.strategies system
+     * property if it is set.
      *
      * @param gameManager The game manager for the Bricker game.
      * @param tools       Utility class for accessing game tools and resources.
      */
     public BrickStrategyFactory(BrickerGameManager gameManager, GameTools tools){
+        this(gameManager, tools, loadWeights(System.getProperty(Constants.STRATEGIES_PROPERTY)));
+    }
+
+    /**
+     * Constructs a new BrickStrategyFactory instance with loaded weights.
+     *
+     * @param gameManager       The game manager for the Bricker game.
+     * @param tools             Utility class for accessing game tools and resources.
+     * @param cumulativeWeights The cumulative strategy weights, as returned by loadWeights.
+     */
+    public BrickStrategyFactory(BrickerGameManager gameManager, GameTools tools, int[] cumulativeWeights){
         this.gameManager = gameManager;
         this.tools = tools;
-        this.gameObjects = tools.getGameObjects();
-        this.brickCounter = tools.getBrickCounter();
+        this.random = tools.getRandom();
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    /**
+     * Draws the strategy of a new brick by weight.
+     *
+     * @return The id of the shared strategy instance.
+     */
+    public int pickStrategyId() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int stratNum = 0;
+        while (pick >= cumulativeWeights[stratNum]) {
+            stratNum++;
+        }
+        return getStrategyId(stratNum);
+    }
+
+    /**
+     * Returns the id of a shared strategy instance for a strategy number. For the double strategy, the
+     * children are drawn at random.
+     *
+     * @param stratNum The strategy number, one of the *_STRAT constants.
+     * @return The id of the shared strategy instance.
+     */
+    public int getStrategyId(int stratNum) {
+        if (stratNum != Constants.DOUBLE_STRAT) {
+            return intern(Constants.STRATEGY_NAMES[stratNum], stratNum);
+        }
+        // a double strategy has at most three behaviors: its first child may be a double of two others
+        int first = random.nextInt(Constants.DOUBLE_STRAT_ALL_OPTIONS);
+        int firstId = first == Constants.DOUBLE_STRAT ?
+                internDouble(randomSpecialId(), randomSpecialId()) : getStrategyId(first);
+        return internDouble(firstId, randomSpecialId());
+    }
+
+    /**
+     * @param strategyId The id of a shared strategy instance.
+     * @return The shared strategy instance.
+     */
+    public CollisionStrategy getStrategy(int strategyId) {
+        return strategies.get(strategyId);
+    }
 
+    /**
+     * @return The number of distinct strategy instances created so far.
+     */
+    public int getNumStrategies() {
+        return strategies.size();
     }
 
     /**
-     * Builds and returns a collision strategy based on the provided strategy number.
+     * Returns a shared strategy instance for a strategy number. For the double strategy, the children are
+     * drawn at random.
      *
-     * @param stratNum The strategy number to determine which collision strategy to create.
-     * @return The created CollisionStrategy.
+     * @param stratNum The strategy number to determine which collision strategy to return.
+     * @return The shared CollisionStrategy.
      */
     public CollisionStrategy buildStrategy(int stratNum){
+        return getStrategy(getStrategyId(stratNum));
+    }
+
+    /**
+     * @return The id of a shared special (not basic, not double) strategy, drawn at random.
+     */
+    private int randomSpecialId() {
+        int stratNum = random.nextInt(Constants.DOUBLE_STRAT_NO_DOUBLE);
+        return intern(Constants.STRATEGY_NAMES[stratNum], stratNum);
+    }
+
+    /**
+     * @param firstId  The id of the first child.
+     * @param secondId The id of the second child.
+     * @return The id of the shared double strategy of the two children.
+     */
+    private int internDouble(int firstId, int secondId) {
+        String key = Constants.STRATEGY_NAMES[Constants.DOUBLE_STRAT] + "(" + firstId + "," + secondId + ")";
+        Integer id = strategyIds.get(key);
+        if (id == null) {
+            id = register(key, new CompositeStrategy(tools.getGameObjects(), tools.getBrickCounter(),
+                    tools.getBrickGrid(), tools.getEventQueue(), tools.getFrameProfiler(),
+                    strategies.get(firstId), strategies.get(secondId)));
+        }
+        return id;
+    }
+
+    /**
+     * @param key      The name of a single strategy.
+     * @param stratNum The strategy number of the strategy.
+     * @return The id of the shared instance of the strategy.
+     */
+    private int intern(String key, int stratNum) {
+        Integer id = strategyIds.get(key);
+        if (id == null) {
+            id = register(key, createStrategy(stratNum));
+        }
+        return id;
+    }
+
+    /**
+     * @param key      The key of the strategy.
+     * @param strategy The new shared strategy instance.
+     * @return The id of the strategy.
+     */
+    private int register(String key, BasicCollisionStrategy strategy) {
+        int id = strategies.size();
+        strategies.add(strategy);
+        strategyIds.put(key, id);
+        return id;
+    }
+
+    /**
+     * Creates the shared instance of a single strategy.
+     *
+     * @param stratNum The strategy number, not the double strategy.
+     * @return The new strategy.
+     */
+    private BasicCollisionStrategy createStrategy(int stratNum) {
         switch (stratNum) {
             case Constants.PUCK_STRAT:
                 return new PuckStrategy(tools);
             case Constants.EXTRA_PADDLE_STRAT:
-                 return new ExtraPaddleStrategy(tools, gameObjects, brickCounter);
+                 return new ExtraPaddleStrategy(tools, tools.getGameObjects(), tools.getBrickCounter());
             case Constants.CAMERA_STRAT:
-                return new CameraStrategy(gameObjects, brickCounter, tools, gameManager);
+                return new CameraStrategy(tools.getGameObjects(), tools.getBrickCounter(), tools, gameManager);
             case Constants.EXTRA_LIFE_STRAT:
-                return new ExtraLifeStrategy(gameObjects, brickCounter, tools);
-            case Constants.DOUBLE_STRAT:
-                if(!alreadyDouble) {
-                    alreadyDouble = true;
-                    return new DoubleStrategy(buildStrategy(random.nextInt(
-                            Constants.DOUBLE_STRAT_ALL_OPTIONS)),
-                            buildStrategy(Constants.DOUBLE_STRAT_NO_DOUBLE));
-                }
-                alreadyDouble = false;
-                return new DoubleStrategy(buildStrategy(random.nextInt(
-                        Constants.DOUBLE_STRAT_NO_DOUBLE)),
-                        buildStrategy(random.nextInt(Constants.DOUBLE_STRAT_NO_DOUBLE)));
+                return new ExtraLifeStrategy(tools.getGameObjects(), tools.getBrickCounter(), tools);
             default:
-                return new BasicCollisionStrategy(gameObjects, brickCounter);
+                return new BasicCollisionStrategy(tools.getGameObjects(), tools.getBrickCounter(),
+                        tools.getBrickGrid(), tools.getEventQueue());
+        }
+    }
+
+    /**
+     * Loads the strategy weights, starting from the defaults in Constants.
+     *
+     * @param path The path of a properties file mapping strategy names to weights, or null for the defaults.
+     * @return The cumulative weights, by strategy number.
+     */
+    public static int[] loadWeights(String path) {
+        Properties properties = new Properties();
+        if (path != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(path))) {
+                properties.load(reader);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        int[] cumulativeWeights = new int[Constants.STRATEGY_NAMES.length];
+        int total = 0;
+        for (int stratNum = 0; stratNum < cumulativeWeights.length; stratNum++) {
+            String weight = properties.getProperty(Constants.STRATEGY_NAMES[stratNum]);
+            int value = weight == null ? Constants.DEFAULT_STRATEGY_WEIGHTS[stratNum] :
+                    Integer.parseInt(weight.trim());
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative weight for strategy " +
+                        Constants.STRATEGY_NAMES[stratNum]);
+            }
+            total += value;
+            cumulativeWeights[stratNum] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("All strategy weights are zero");
         }
+        return cumulativeWeights;
     }
 }
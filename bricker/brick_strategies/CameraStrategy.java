@@ -1,6 +1,9 @@
 package bricker.brick_strategies;
 
+import bricker.gameobjects.EntityKind;
 import bricker.main.Constants;
+import bricker.main.GameEvent;
+import bricker.main.GameEventQueue;
 import bricker.main.GameTools;
 import danogl.GameManager;
 import danogl.GameObject;
@@ -16,6 +19,7 @@ import danogl.util.Vector2;
 public class CameraStrategy extends BasicCollisionStrategy implements CollisionStrategy{
     private final GameManager gameManager;
     private final Vector2 windowDimension;
+    private final GameEventQueue eventQueue;
 
     /**
      * Constructs a new CameraStrategy instance.
@@ -27,26 +31,27 @@ public class CameraStrategy extends BasicCollisionStrategy implements CollisionS
      */
     public CameraStrategy(GameObjectCollection gameObjects, Counter bricksCounter, GameTools tools,
                           GameManager gameManager) {
-        super(gameObjects, bricksCounter);
+        super(gameObjects, bricksCounter, tools.getBrickGrid(), tools.getEventQueue());
         this.gameManager = gameManager;
         this.windowDimension = tools.getWindowDimensions();
+        this.eventQueue = tools.getEventQueue();
     }
 
     /**
-     * Handles the collision event for the brick.
+     * Applies the strategy's effect after the brick is hit.
      * If the camera is not already set and the colliding object is a ball, it sets the camera to follow the
-     * ball.
+     * ball and publishes a CAMERA_STARTED event.
      *
      * @param thisObj  The brick object that is involved in the collision.
      * @param otherObj The other game object that the brick collided with.
      */
     @Override
-    public void onCollision(GameObject thisObj, GameObject otherObj) {
-        super.onCollision(thisObj, otherObj);
+    void applyEffect(GameObject thisObj, GameObject otherObj) {
         if (gameManager.camera() == null) {
-            if (otherObj.getTag().equals(Constants.BALL_TAG)){
+            if (EntityKind.of(otherObj) == EntityKind.BALL){
                 gameManager.setCamera(new Camera(otherObj, Vector2.ZERO,
                         windowDimension.mult(Constants.CAMERA_MULT_FACTOR), windowDimension));
+                eventQueue.publish(GameEvent.CAMERA_STARTED);
             }
         }
     }
@@ -0,0 +1,72 @@
+package bricker.brick_strategies;
+
+import bricker.gameobjects.BrickGrid;
+import bricker.main.FrameProfiler;
+import bricker.main.GameEventQueue;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A collision strategy that combines the effects of several other collision strategies.
+ * Any combination, including composites of composites, is flattened into a single array of effects when the
+ * composite is built, so a hit removes the brick exactly once and then runs each effect in turn, with no
+ * nested strategy calls. Each effect is timed by its class.
+ */
+public class CompositeStrategy extends BasicCollisionStrategy implements CollisionStrategy {
+    private final BasicCollisionStrategy[] effects;
+    private final FrameProfiler frameProfiler;
+
+    /**
+     * Constructs a new CompositeStrategy instance.
+     *
+     * @param gameObjects   The collection of game objects.
+     * @param bricksCounter The counter for tracking the number of remaining bricks.
+     * @param brickGrid     The grid index of the bricks.
+     * @param eventQueue    The queue of the game events.
+     * @param frameProfiler The profiler timing the effects.
+     * @param parts         The strategies whose effects are combined.
+     */
+    CompositeStrategy(GameObjectCollection gameObjects, Counter bricksCounter, BrickGrid brickGrid,
+                      GameEventQueue eventQueue, FrameProfiler frameProfiler, BasicCollisionStrategy... parts) {
+        super(gameObjects, bricksCounter, brickGrid, eventQueue);
+        this.frameProfiler = frameProfiler;
+        List<BasicCollisionStrategy> flattened = new ArrayList<>();
+        for (BasicCollisionStrategy part : parts) {
+            if (part instanceof CompositeStrategy) {
+                flattened.addAll(Arrays.asList(((CompositeStrategy) part).effects));
+            }
+            else if (part.getClass() != BasicCollisionStrategy.class) {
+                // a basic strategy only removes the brick, which the composite already does
+                flattened.add(part);
+            }
+        }
+        this.effects = flattened.toArray(new BasicCollisionStrategy[0]);
+    }
+
+    /**
+     * @return The number of effects run on each hit.
+     */
+    public int getNumEffects() {
+        return effects.length;
+    }
+
+    /**
+     * Applies the effects of all the combined strategies, in order.
+     *
+     * @param thisObj  The brick object that is involved in the collision.
+     * @param otherObj The other game object that the brick collided with.
+     */
+    @Override
+    void applyEffect(GameObject thisObj, GameObject otherObj) {
+        for (BasicCollisionStrategy effect : effects) {
+            long start = frameProfiler.start();
+            effect.applyEffect(thisObj, otherObj);
+            frameProfiler.endStrategy(effect.getClass(), start);
+        }
+    }
+}
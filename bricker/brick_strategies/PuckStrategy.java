@@ -1,23 +1,20 @@
 package bricker.brick_strategies;
 
+import bricker.gameobjects.EntityBudget;
+import bricker.gameobjects.EntityKind;
+import bricker.gameobjects.GameObjectPool;
 import bricker.gameobjects.Puck;
 import bricker.main.Constants;
 import bricker.main.GameTools;
 import danogl.GameObject;
-import danogl.gui.ImageReader;
-import danogl.gui.Sound;
-import danogl.gui.SoundReader;
-import danogl.gui.rendering.Renderable;
-import danogl.util.Vector2;
 
 /**
  * A collision strategy that spawns multiple pucks when a brick is hit.
  * Extends the BasicCollisionStrategy with additional behavior to create pucks.
  */
 public class PuckStrategy extends BasicCollisionStrategy implements CollisionStrategy {
-    private final GameTools gameTools;
-    private final ImageReader imageReader;
-    private final SoundReader soundReader;
+    private final GameObjectPool<Puck> puckPool;
+    private final EntityBudget budget;
 
     /**
      * Constructs a new PuckStrategy instance.
@@ -25,32 +22,27 @@ public class PuckStrategy extends BasicCollisionStrategy implements CollisionStr
      * @param gameTools Utility class for accessing game tools and resources.
      */
     public PuckStrategy(GameTools gameTools) {
-        super(gameTools.getGameObjects(), gameTools.getBrickCounter());
-        this.gameTools = gameTools;
+        super(gameTools.getGameObjects(), gameTools.getBrickCounter(), gameTools.getBrickGrid(),
+                gameTools.getEventQueue());
+        this.puckPool = gameTools.getEntityPools().getPuckPool();
+        this.budget = gameTools.getEntityPools().getBudget();
         this.gameObjects = gameTools.getGameObjects();
-        this.imageReader = gameTools.getImageReader();
-        this.soundReader = gameTools.getSoundReader();
     }
 
     /**
-     * Handles the collision event for the brick.
-     * Creates and spawns multiple pucks at the brick's location.
+     * Applies the strategy's effect after the brick is hit.
+     * Spawns multiple pucks from the puck pool at the brick's location, as far as the entity budget allows.
      *
      * @param thisObj  The brick object that is involved in the collision.
      * @param otherObj The other game object that the brick collided with.
      */
     @Override
-    public void onCollision(GameObject thisObj, GameObject otherObj) {
-        super.onCollision(thisObj, otherObj);
-        Renderable puckImage = imageReader.readImage(Constants.PUCK_IM_PATH, true);
-        Sound puckSound = soundReader.readSound(Constants.BALL_SOUND_PATH);
-        float puckSize = Constants.PUCK_RELATIVE_SIZE * Constants.BALL_SIZE;
-        for (int i = 0; i < Constants.PUCK_NUMBER; i++) {
-            Puck puck = new Puck(Vector2.ZERO, new Vector2(puckSize, puckSize), puckImage, puckSound,
-                    gameTools);
-            puck.setCenter(thisObj.getCenter());
-            puck.setPuckMovement();
+    void applyEffect(GameObject thisObj, GameObject otherObj) {
+        for (int i = 0; i < Constants.PUCK_NUMBER && budget.reserve(EntityKind.PUCK); i++) {
+            Puck puck = puckPool.acquire();
+            puck.reset(thisObj.getCenter());
             gameObjects.addGameObject(puck);
+            budget.add(puck);
         }
     }
 }
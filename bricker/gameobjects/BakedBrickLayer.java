@@ -0,0 +1,137 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * The bricks of the rows inside the window, drawn once into a single cached image.
+ * Bricks never move, so instead of rendering one brick game object per brick every frame, the brick field
+ * is baked into an image that is drawn with one blit. When a brick is removed, only its cell is cleared from
+ * the image. The bricks themselves stay in the game, without renderables, for their collision strategies.
+ * While the camera follows the ball, only the band of rows inside its view is drawn.
+ */
+public class BakedBrickLayer extends GameObject {
+    private final BrickGrid brickGrid;
+    private final Renderable brickImage;
+    private final BufferedImage image;
+    private final Band band;
+
+    /**
+     * Constructs a new BakedBrickLayer instance, covering the rows of the grid inside the window, and bakes
+     * the grid's live bricks into it.
+     *
+     * @param brickGrid  The grid of the bricks.
+     * @param brickImage The renderable of a brick.
+     * @param width      The width of the brick field.
+     */
+    public BakedBrickLayer(BrickGrid brickGrid, Renderable brickImage, float width) {
+        this(brickGrid, brickImage, new Band(new BufferedImage(Math.max(1, Math.round(width)),
+                Math.max(1, Math.round(brickGrid.getVisibleBottom())), BufferedImage.TYPE_INT_ARGB)));
+        rebake();
+    }
+
+    /**
+     * @param brickGrid  The grid of the bricks.
+     * @param brickImage The renderable of a brick.
+     * @param band       The renderable of the image the bricks are baked into.
+     */
+    private BakedBrickLayer(BrickGrid brickGrid, Renderable brickImage, Band band) {
+        super(Vector2.ZERO, new Vector2(band.image.getWidth(), band.image.getHeight()), band);
+        this.brickGrid = brickGrid;
+        this.brickImage = brickImage;
+        this.image = band.image;
+        this.band = band;
+    }
+
+    /**
+     * Bakes the grid's live bricks into the image again, in place, e.g. after the grid was refilled for a
+     * new game.
+     */
+    public void rebake() {
+        Graphics2D graphics = image.createGraphics();
+        graphics.setComposite(AlphaComposite.Clear);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.setComposite(AlphaComposite.SrcOver);
+        for (int index = 0; index < brickGrid.getNumVisibleCells(); index++) {
+            if (brickGrid.isAlive(index)) {
+                Rectangle bounds = cellBounds(index);
+                brickImage.render(graphics, new Vector2(bounds.x, bounds.y),
+                        new Vector2(bounds.width, bounds.height), 0, false, false, 1);
+            }
+        }
+        graphics.dispose();
+    }
+
+    /**
+     * Sets the vertical band of the image that is drawn.
+     *
+     * @param top    The y coordinate of the top of the band.
+     * @param bottom The y coordinate of the bottom of the band, at most the top for an empty band.
+     */
+    void setDrawnBand(float top, float bottom) {
+        band.top = Math.max(0, Math.round(top));
+        band.bottom = Math.min(image.getHeight(), Math.round(bottom));
+    }
+
+    /**
+     * Clears the cell of a removed brick from the baked image.
+     *
+     * @param index The index of a cell inside the window.
+     */
+    void clearCell(int index) {
+        Graphics2D graphics = image.createGraphics();
+        graphics.setComposite(AlphaComposite.Clear);
+        Rectangle bounds = cellBounds(index);
+        graphics.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+        graphics.dispose();
+    }
+
+    /**
+     * @param index The index of a cell inside the window.
+     * @return The pixels of the cell in the baked image, rounded so neighboring cells leave no gaps.
+     */
+    private Rectangle cellBounds(int index) {
+        Vector2 topLeft = brickGrid.getCellTopLeft(index);
+        int left = Math.round(topLeft.x());
+        int top = Math.round(topLeft.y());
+        return new Rectangle(left, top, Math.round(topLeft.x() + brickGrid.getCellWidth()) - left,
+                Math.round(topLeft.y() + brickGrid.getBrickHeight()) - top);
+    }
+
+    /**
+     * Draws a horizontal band of the baked image, all of it by default. The layer is never rotated, flipped
+     * or faded, so those arguments are ignored.
+     */
+    private static class Band implements Renderable {
+        private final BufferedImage image;
+        private int top = 0;
+        private int bottom;
+
+        /**
+         * @param image The baked image.
+         */
+        Band(BufferedImage image) {
+            this.image = image;
+            this.bottom = image.getHeight();
+        }
+
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            if (top >= bottom) {
+                return;
+            }
+            float scaleY = dimensions.y() / image.getHeight();
+            g.drawImage(image, Math.round(topLeftCorner.x()), Math.round(topLeftCorner.y() + top * scaleY),
+                    Math.round(topLeftCorner.x() + dimensions.x()),
+                    Math.round(topLeftCorner.y() + bottom * scaleY), 0, top, image.getWidth(), bottom, null);
+        }
+    }
+}
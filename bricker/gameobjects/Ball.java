@@ -1,5 +1,6 @@
 package bricker.gameobjects;
 
+import bricker.main.AudioMixer;
 import bricker.main.Constants;
 import bricker.main.GameTools;
 import danogl.GameObject;
@@ -13,30 +14,55 @@ import java.util.Random;
 /**
  * Represents a ball in the Bricker game.
  */
-public class Ball extends GameObject {
+public class Ball extends GameObject implements Entity {
     private final Sound collisionSound;
+    private final AudioMixer audioMixer;
     private final GameTools tools;
+    private final BrickGrid brickGrid;
     private int collisionCounter;
 
     /**
-     * Constructs a new Ball instance.
+     * Constructs a new Ball instance, at rest. The constructor draws nothing from the game's random source,
+     * so pooled subclasses do not shift the draws of a seeded game; the main ball is set moving with
+     * setBallMovement().
      *
      * @param topLeftCorner Position of the object, in window coordinates (pixels).
      *                      Note that (0,0) is the top-left corner of the window.
      * @param dimensions    Width and height in window coordinates.
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
-     * @param collisionSound Sound to play upon collision.
+     * @param collisionSound Sound to play upon collision. Can be null, in which case the ball is silent.
      * @param tools         Utility class for accessing game tools and resources.
      */
     public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound collisionSound,
                 GameTools tools) {
         super(topLeftCorner, dimensions, renderable);
         this.tools = tools;
+        this.brickGrid = tools.getBrickGrid();
         this.collisionCounter = 0;
         this.collisionSound = collisionSound;
-        setBallMovement();
-        setTag(Constants.BALL_TAG);
+        this.audioMixer = tools.getAudioMixer();
+        setTag(getKind().getTag());
+    }
+
+    /**
+     * @return The kind of this game object, BALL.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.BALL;
+    }
+
+    /**
+     * Determines if the ball should collide with the specified game object, according to the
+     * CollisionMatrix.
+     *
+     * @param other The other game object.
+     * @return True if the other object may collide with a ball; false otherwise.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionMatrix.canCollide(this, other);
     }
 
     /**
@@ -48,8 +74,33 @@ public class Ball extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        setVelocity(getVelocity().flipped(collision.getNormal()));
-        collisionSound.play();
+        bounce(collision.getNormal());
+    }
+
+    /**
+     * Updates the state of the ball, and sweeps its path during this tick against the bricks and walls of
+     * the brick grid.
+     *
+     * @param deltaTime The time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        Vector2 previousTopLeft = getTopLeftCorner();
+        super.update(deltaTime);
+        brickGrid.collide(this, previousTopLeft);
+    }
+
+    /**
+     * Bounces the ball off a surface, playing the collision sound through the audio mixer and counting the
+     * collision.
+     *
+     * @param normal The normal of the surface the ball bounced off.
+     */
+    void bounce(Vector2 normal) {
+        setVelocity(getVelocity().flipped(normal));
+        if (collisionSound != null) {
+            audioMixer.play(collisionSound);
+        }
         collisionCounter++;
     }
 
@@ -62,13 +113,14 @@ public class Ball extends GameObject {
 
     /**
      * Sets the initial movement of the ball.
-     * The ball starts at the center of the window and moves in a random direction.
+     * The ball starts at the center of the window and moves in a random direction, drawn from the game's
+     * seeded random source.
      */
     public void setBallMovement() {
         setCenter(tools.getWindowDimensions().mult(Constants.CENTER_FACTOR));
         float ballVelX = Constants.BALL_SPEED;
         float ballVellY = Constants.BALL_SPEED;
-        Random rand = new Random();
+        Random rand = tools.getRandom();
         if(rand.nextBoolean())
             ballVelX *= Constants.VELOCITY_FLIP;
         if(rand.nextBoolean())
@@ -1,6 +1,7 @@
 package bricker.gameobjects;
 
 import bricker.brick_strategies.CollisionStrategy;
+import bricker.main.FrameProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -9,8 +10,11 @@ import danogl.util.Vector2;
 /**
  * Represents a brick in the Bricker game.
  */
-public class Brick extends GameObject {
+public class Brick extends GameObject implements Entity {
     private CollisionStrategy collisionStrategy;
+    private final FrameProfiler frameProfiler;
+    private final Renderable image;
+    private int gridIndex = -1;
 
     /**
      * Constructs a new Brick instance.
@@ -21,11 +25,35 @@ public class Brick extends GameObject {
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
      * @param collisionStrategy The strategy to execute when a collision occurs.
+     * @param frameProfiler The profiler timing the collision strategy.
      */
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                 CollisionStrategy collisionStrategy) {
+                 CollisionStrategy collisionStrategy, FrameProfiler frameProfiler) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionStrategy = collisionStrategy;
+        this.frameProfiler = frameProfiler;
+        this.image = renderable;
+        setTag(getKind().getTag());
+    }
+
+    /**
+     * @return The kind of this game object, BRICK.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.BRICK;
+    }
+
+    /**
+     * Determines if the brick should collide with the specified game object, according to the
+     * CollisionMatrix.
+     *
+     * @param other The other game object.
+     * @return True if the other object may collide with a brick; false otherwise.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionMatrix.canCollide(this, other);
     }
 
     /**
@@ -37,6 +65,43 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        applyStrategy(other);
+    }
+
+    /**
+     * Applies the brick's collision strategy after it was hit by another game object, timing it by the
+     * strategy's class.
+     *
+     * @param other The other game object that hit this brick.
+     */
+    public void applyStrategy(GameObject other) {
+        long start = frameProfiler.start();
         collisionStrategy.onCollision(this, other);
+        frameProfiler.endStrategy(collisionStrategy.getClass(), start);
+    }
+
+    /**
+     * @return The index of the brick's cell in its BrickGrid, or -1 if it is not in a grid.
+     */
+    public int getGridIndex() {
+        return gridIndex;
+    }
+
+    /**
+     * Draws or hides the brick, for culling it outside the camera's view.
+     *
+     * @param drawn True to draw the brick with its image; false to skip drawing it.
+     */
+    void setDrawn(boolean drawn) {
+        renderer().setRenderable(drawn ? image : null);
+    }
+
+    /**
+     * Sets the index of the brick's cell in its BrickGrid.
+     *
+     * @param gridIndex The index of the cell.
+     */
+    void setGridIndex(int gridIndex) {
+        this.gridIndex = gridIndex;
     }
 }
@@ -0,0 +1,467 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A uniform grid index of the bricks in the Bricker game.
+ * The bricks are laid out on a perfect rows x columns grid, so a ball's swept bounds map directly to the
+ * few cells it may touch. Bricks live in a layer that danogl does not pair-test against the balls, and
+ * each ball asks the grid for its collisions instead, so the cost per ball does not depend on the number
+ * of bricks. The grid sweeps each ball's path continuously against the bricks and the static obstacles
+ * (the walls), so fast balls do not pass through them.
+ * <p>
+ * The grid itself is the brick field: whether each cell is alive and its strategy id are kept in primitive
+ * arrays, and Brick game objects are only materialized for the rows inside the window (to be rendered),
+ * or for a cell that is hit. A level of a million bricks costs about one byte per brick, and one more if the
+ * level sets the number of hits each brick takes.
+ */
+public class BrickGrid {
+    private static final int MAX_STRATEGY_ID = 0xff;
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int BOUNDS_PER_OBSTACLE = 4;
+    private static final int MAX_IMPACTS_PER_TICK = 4;
+
+    private final int numCols;
+    private final int numRows;
+    private final float cellWidth;
+    private final float rowPitch;
+    private final float brickHeight;
+    private final int visibleRows;
+    private final long[] aliveBits;
+    private final byte[] strategyIds;
+    private final Brick[] visibleBricks;
+    private final Map<Integer, Brick> hiddenBricks = new HashMap<>();
+    private byte[] health;
+    private BakedBrickLayer bakedLayer;
+    private float[] obstacleBounds = new float[0];
+    private final Sweep sweep = new Sweep();
+    private float bestTime;
+    private boolean bestFromSide;
+    private IntFunction<Brick> brickFactory;
+    private int firstDrawnRow = 0;
+    private int endDrawnRow;
+
+    /**
+     * Constructs a new, empty BrickGrid instance.
+     *
+     * @param numCols       The number of bricks in a row.
+     * @param numRows       The number of rows of bricks.
+     * @param cellWidth     The width of each brick.
+     * @param rowPitch      The vertical distance between the tops of two consecutive rows.
+     * @param brickHeight   The height of each brick.
+     * @param visibleHeight The height of the window; rows starting below it are not materialized upfront.
+     */
+    public BrickGrid(int numCols, int numRows, float cellWidth, float rowPitch, float brickHeight,
+                     float visibleHeight) {
+        this.numCols = numCols;
+        this.numRows = numRows;
+        this.cellWidth = cellWidth;
+        this.rowPitch = rowPitch;
+        this.brickHeight = brickHeight;
+        int rows = 0;
+        while (rows < numRows && cellTop(rows) < visibleHeight) {
+            rows++;
+        }
+        this.visibleRows = rows;
+        int numCells = numCols * numRows;
+        this.aliveBits = new long[(numCells + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        this.strategyIds = new byte[numCells];
+        this.visibleBricks = new Brick[numCols * visibleRows];
+        this.endDrawnRow = visibleRows;
+    }
+
+    /**
+     * @return The width of each brick.
+     */
+    public float getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * @return The height of each brick.
+     */
+    public float getBrickHeight() {
+        return brickHeight;
+    }
+
+    /**
+     * @return The number of cells in the rows inside the window, which come first in the grid.
+     */
+    public int getNumVisibleCells() {
+        return visibleBricks.length;
+    }
+
+    /**
+     * @return The y coordinate of the bottom of the last row inside the window.
+     */
+    public float getVisibleBottom() {
+        return visibleRows == 0 ? 0 : cellTop(visibleRows - 1) + brickHeight;
+    }
+
+    /**
+     * Sets the baked image of the bricks inside the window, whose cells are cleared as bricks are removed.
+     *
+     * @param bakedLayer The baked brick layer, or null if bricks are rendered one by one.
+     */
+    public void setBakedLayer(BakedBrickLayer bakedLayer) {
+        this.bakedLayer = bakedLayer;
+    }
+
+    /**
+     * @return The number of cells in the grid.
+     */
+    public int getNumCells() {
+        return strategyIds.length;
+    }
+
+    /**
+     * Calculates the top-left corner of a brick cell. The first row is placed one row pitch below the top
+     * of the window.
+     *
+     * @param index The index of the cell, row by row.
+     * @return The top-left corner of the cell, in window coordinates.
+     */
+    public Vector2 getCellTopLeft(int index) {
+        return new Vector2((index % numCols) * cellWidth, cellTop(index / numCols));
+    }
+
+    /**
+     * Places a live brick in a cell of the grid, without materializing it.
+     *
+     * @param index      The index of the cell, row by row.
+     * @param strategyId The id of the brick's collision strategy, from 0 to 255.
+     * @throws IllegalArgumentException If the strategy id does not fit in a byte.
+     */
+    public void addBrick(int index, int strategyId) {
+        if (strategyId < 0 || strategyId > MAX_STRATEGY_ID) {
+            throw new IllegalArgumentException("Strategy id out of range: " + strategyId);
+        }
+        strategyIds[index] = (byte) strategyId;
+        aliveBits[index / BITS_PER_WORD] |= 1L << index;
+    }
+
+    /**
+     * Sets the number of hits the brick of a cell takes before its collision strategy is applied.
+     * Bricks take a single hit unless set otherwise.
+     *
+     * @param index  The index of the cell, row by row.
+     * @param health The number of hits, at most 255.
+     */
+    public void setHealth(int index, int health) {
+        if (this.health == null) {
+            this.health = new byte[strategyIds.length];
+        }
+        this.health[index] = (byte) health;
+    }
+
+    /**
+     * @param index The index of a cell, row by row.
+     * @return The id of the collision strategy of the cell's brick.
+     */
+    public int getStrategyId(int index) {
+        return strategyIds[index] & MAX_STRATEGY_ID;
+    }
+
+    /**
+     * @param index The index of a cell, row by row.
+     * @return True if the cell holds a brick that was not removed.
+     */
+    public boolean isAlive(int index) {
+        return (aliveBits[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    /**
+     * Materializes the live bricks of the rows inside the window, and keeps the factory for materializing
+     * the other bricks when they are hit.
+     *
+     * @param brickFactory Creates the brick of a cell index and adds it to the game.
+     */
+    public void materializeVisible(IntFunction<Brick> brickFactory) {
+        this.brickFactory = brickFactory;
+        for (int index = 0; index < visibleBricks.length; index++) {
+            if (isAlive(index)) {
+                visibleBricks[index] = materialize(index);
+            }
+        }
+    }
+
+    /**
+     * Empties the grid for a new game, keeping its arrays. The materialized bricks are handed to a callback
+     * to be removed from the game, and all the rows inside the window are drawn again.
+     *
+     * @param removeBrick Removes a materialized brick from the game.
+     */
+    public void clear(Consumer<Brick> removeBrick) {
+        for (int index = 0; index < visibleBricks.length; index++) {
+            if (visibleBricks[index] != null) {
+                removeBrick.accept(visibleBricks[index]);
+                visibleBricks[index] = null;
+            }
+        }
+        hiddenBricks.values().forEach(removeBrick);
+        hiddenBricks.clear();
+        Arrays.fill(aliveBits, 0);
+        if (health != null) {
+            Arrays.fill(health, (byte) 0);
+        }
+        drawAllRows();
+    }
+
+    /**
+     * Clears the cell of a brick, so it is no longer returned as a collision candidate, and clears it from
+     * the baked brick layer, if there is one.
+     *
+     * @param brick The brick to remove.
+     */
+    public void removeBrick(GameObject brick) {
+        if (brick instanceof Brick) {
+            int index = ((Brick) brick).getGridIndex();
+            if (index >= 0 && isAlive(index)) {
+                aliveBits[index / BITS_PER_WORD] &= ~(1L << index);
+                if (index < visibleBricks.length) {
+                    visibleBricks[index] = null;
+                    if (bakedLayer != null) {
+                        bakedLayer.clearCell(index);
+                    }
+                }
+                else {
+                    hiddenBricks.remove(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws only the rows inside the window that overlap a vertical range, e.g. the view of a camera, and
+     * hides the bricks of the other rows. Rows are culled whole, and only the rows entering or leaving the
+     * range are visited, so a camera moving within a few rows costs a few rows per frame.
+     *
+     * @param top    The y coordinate of the top of the range.
+     * @param bottom The y coordinate of the bottom of the range.
+     */
+    public void cullRows(float top, float bottom) {
+        int first = Math.max(0, Math.min(visibleRows, (int) Math.floor((top - brickHeight) / rowPitch)));
+        int end = Math.max(first, Math.min(visibleRows, (int) Math.ceil(bottom / rowPitch) - 1));
+        setDrawnRows(first, end);
+    }
+
+    /**
+     * Draws all the rows inside the window again, after they were culled.
+     */
+    public void drawAllRows() {
+        setDrawnRows(0, visibleRows);
+    }
+
+    /**
+     * Registers a static obstacle, e.g. a wall, that balls are swept against together with the bricks.
+     *
+     * @param obstacle The obstacle. It must never move.
+     */
+    public void addObstacle(GameObject obstacle) {
+        Vector2 topLeft = obstacle.getTopLeftCorner();
+        Vector2 dimensions = obstacle.getDimensions();
+        int offset = obstacleBounds.length;
+        obstacleBounds = Arrays.copyOf(obstacleBounds, offset + BOUNDS_PER_OBSTACLE);
+        obstacleBounds[offset] = topLeft.x();
+        obstacleBounds[offset + 1] = topLeft.y();
+        obstacleBounds[offset + 2] = topLeft.x() + dimensions.x();
+        obstacleBounds[offset + 3] = topLeft.y() + dimensions.y();
+    }
+
+    /**
+     * Moves the ball continuously along its path during the last tick, from where it started the tick to
+     * where danogl moved it, against the live bricks and the obstacles.
+     * The path is cut at the earliest time of impact: the ball bounces there, the hit brick's collision
+     * strategy is applied (or it takes one hit off the brick's health, if it has more than one left), and
+     * the rest of the path continues in the new direction, up to MAX_IMPACTS_PER_TICK impacts. No brick or
+     * wall is passed through, whatever the ball's speed or the tick rate.
+     *
+     * @param ball            The ball to move.
+     * @param previousTopLeft The top-left corner of the ball at the start of the tick.
+     */
+    void collide(Ball ball, Vector2 previousTopLeft) {
+        Vector2 dimensions = ball.getDimensions();
+        Vector2 end = ball.getTopLeftCorner();
+        float x = previousTopLeft.x();
+        float y = previousTopLeft.y();
+        float dx = end.x() - x;
+        float dy = end.y() - y;
+        boolean hit = false;
+        for (int impact = 0; impact < MAX_IMPACTS_PER_TICK; impact++) {
+            sweep.set(x, y, dimensions.x(), dimensions.y(), dx, dy);
+            int hitIndex = sweepBricks();
+            float hitTime = bestTime;
+            boolean hitFromSide = bestFromSide;
+            for (int offset = 0; offset < obstacleBounds.length; offset += BOUNDS_PER_OBSTACLE) {
+                float time = sweep.test(obstacleBounds[offset], obstacleBounds[offset + 1],
+                        obstacleBounds[offset + 2], obstacleBounds[offset + 3]);
+                if (time < hitTime) {
+                    hitTime = time;
+                    hitFromSide = sweep.isHitFromSide();
+                    hitIndex = -1;
+                }
+            }
+            if (hitTime == Sweep.NO_HIT) {
+                break;
+            }
+            hit = true;
+            x += dx * hitTime;
+            y += dy * hitTime;
+            float remaining = 1 - hitTime;
+            dx *= hitFromSide ? -remaining : remaining;
+            dy *= hitFromSide ? remaining : -remaining;
+            ball.bounce(hitFromSide ? Vector2.RIGHT : Vector2.UP);
+            if (hitIndex >= 0) {
+                hitCell(hitIndex, ball);
+            }
+        }
+        if (hit) {
+            ball.setTopLeftCorner(new Vector2(x + dx, y + dy));
+        }
+    }
+
+    /**
+     * Finds the earliest live brick hit by the current sweep, among the cells its swept area covers.
+     * The time of impact and side of the hit are left in bestTime and bestFromSide.
+     *
+     * @return The index of the hit cell, or -1 if no brick is hit.
+     */
+    private int sweepBricks() {
+        float sweptMinX = sweep.getMinX();
+        float sweptMinY = sweep.getMinY();
+        float sweptMaxX = sweep.getMaxX();
+        float sweptMaxY = sweep.getMaxY();
+        int firstCol = Math.max(0, (int) Math.floor(sweptMinX / cellWidth));
+        int lastCol = Math.min(numCols - 1, (int) Math.floor(sweptMaxX / cellWidth));
+        int firstRow = Math.max(0, (int) Math.floor((sweptMinY - brickHeight) / rowPitch) - 1);
+        int lastRow = Math.min(numRows - 1, (int) Math.floor(sweptMaxY / rowPitch) - 1);
+
+        int hitIndex = -1;
+        bestTime = Sweep.NO_HIT;
+        for (int row = firstRow; row <= lastRow; row++) {
+            float top = cellTop(row);
+            float bottom = top + brickHeight;
+            if (top >= sweptMaxY || bottom <= sweptMinY) {
+                continue;
+            }
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = row * numCols + col;
+                if (!isAlive(index)) {
+                    continue;
+                }
+                float left = col * cellWidth;
+                float time = sweep.test(left, top, left + cellWidth, bottom);
+                if (time < bestTime) {
+                    bestTime = time;
+                    bestFromSide = sweep.isHitFromSide();
+                    hitIndex = index;
+                }
+            }
+        }
+        return hitIndex;
+    }
+
+    /**
+     * Applies a hit of the ball to the brick of a live cell: takes one hit off its health if it has more
+     * than one left, and applies its collision strategy otherwise.
+     *
+     * @param index The index of the hit cell.
+     * @param ball  The ball that hit the brick.
+     */
+    private void hitCell(int index, Ball ball) {
+        if (health != null && (health[index] & 0xff) > 1) {
+            health[index]--;
+        }
+        else {
+            brickAt(index).applyStrategy(ball);
+        }
+    }
+
+    /**
+     * Returns the brick of a live cell, materializing it if it is outside the window.
+     *
+     * @param index The index of a live cell.
+     * @return The brick of the cell.
+     */
+    private Brick brickAt(int index) {
+        if (index < visibleBricks.length) {
+            return visibleBricks[index];
+        }
+        Brick brick = hiddenBricks.get(index);
+        if (brick == null) {
+            brick = materialize(index);
+            hiddenBricks.put(index, brick);
+        }
+        return brick;
+    }
+
+    /**
+     * Creates the brick of a cell with the brick factory.
+     *
+     * @param index The index of the cell.
+     * @return The new brick, already added to the game.
+     */
+    private Brick materialize(int index) {
+        Brick brick = brickFactory.apply(index);
+        brick.setGridIndex(index);
+        return brick;
+    }
+
+    /**
+     * Changes the drawn rows inside the window, drawing or hiding the bricks of the rows that changed.
+     *
+     * @param first The first drawn row.
+     * @param end   The row after the last drawn row.
+     */
+    private void setDrawnRows(int first, int end) {
+        if (first == firstDrawnRow && end == endDrawnRow) {
+            return;
+        }
+        if (bakedLayer != null) {
+            bakedLayer.setDrawnBand(cellTop(first), first < end ? cellTop(end - 1) + brickHeight : 0);
+        }
+        else {
+            for (int row = firstDrawnRow; row < endDrawnRow; row++) {
+                if (row < first || row >= end) {
+                    setRowDrawn(row, false);
+                }
+            }
+            for (int row = first; row < end; row++) {
+                if (row < firstDrawnRow || row >= endDrawnRow) {
+                    setRowDrawn(row, true);
+                }
+            }
+        }
+        firstDrawnRow = first;
+        endDrawnRow = end;
+    }
+
+    /**
+     * Draws or hides the live bricks of a row inside the window.
+     *
+     * @param row   The row.
+     * @param drawn True to draw the bricks; false to hide them.
+     */
+    private void setRowDrawn(int row, boolean drawn) {
+        for (int index = row * numCols; index < (row + 1) * numCols; index++) {
+            if (visibleBricks[index] != null) {
+                visibleBricks[index].setDrawn(drawn);
+            }
+        }
+    }
+
+    /**
+     * @param row The row of a cell.
+     * @return The y coordinate of the top of the row.
+     */
+    private float cellTop(int row) {
+        return (row + 1) * rowPitch;
+    }
+}
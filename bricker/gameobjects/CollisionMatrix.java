@@ -0,0 +1,58 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * The kinds of game objects that may collide with each other, as a kind x kind bitmask.
+ * Entities consult the matrix in shouldCollideWith, which danogl checks before testing a pair for
+ * collision, so pairs like hearts and bricks or pucks and hearts never reach the narrow phase.
+ * Balls and pucks are swept against the walls by the BrickGrid, so walls collide with nothing here.
+ */
+public final class CollisionMatrix {
+    private static final int[] MASKS = new int[EntityKind.values().length];
+
+    static {
+        allow(EntityKind.BALL, EntityKind.PADDLE);
+        allow(EntityKind.BALL, EntityKind.EXTRA_PADDLE);
+        allow(EntityKind.BALL, EntityKind.BRICK);
+        allow(EntityKind.BALL, EntityKind.PUCK);
+        allow(EntityKind.PUCK, EntityKind.PADDLE);
+        allow(EntityKind.PUCK, EntityKind.EXTRA_PADDLE);
+        allow(EntityKind.PUCK, EntityKind.BRICK);
+        allow(EntityKind.PUCK, EntityKind.PUCK);
+        allow(EntityKind.FALLING_HEART, EntityKind.PADDLE);
+        allow(EntityKind.FALLING_HEART, EntityKind.EXTRA_PADDLE);
+    }
+
+    private CollisionMatrix() {
+    }
+
+    /**
+     * @param first  The kind of one object.
+     * @param second The kind of the other object.
+     * @return True if objects of the two kinds may collide.
+     */
+    public static boolean canCollide(EntityKind first, EntityKind second) {
+        return (MASKS[first.ordinal()] & second.getBit()) != 0;
+    }
+
+    /**
+     * @param entity The entity asking, from its shouldCollideWith.
+     * @param other  The other game object.
+     * @return True if the two objects may collide.
+     */
+    static boolean canCollide(Entity entity, GameObject other) {
+        return canCollide(entity.getKind(), EntityKind.of(other));
+    }
+
+    /**
+     * Lets objects of two kinds collide with each other.
+     *
+     * @param first  The kind of one object.
+     * @param second The kind of the other object.
+     */
+    private static void allow(EntityKind first, EntityKind second) {
+        MASKS[first.ordinal()] |= second.getBit();
+        MASKS[second.ordinal()] |= first.getBit();
+    }
+}
@@ -0,0 +1,11 @@
+package bricker.gameobjects;
+
+/**
+ * A game object with a known EntityKind.
+ */
+public interface Entity {
+    /**
+     * @return The kind of this game object.
+     */
+    EntityKind getKind();
+}
@@ -0,0 +1,196 @@
+package bricker.gameobjects;
+
+import bricker.main.Constants;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The live counts of the short-lived entities of a single Bricker game, and the caps on them.
+ * Spawning code reserves a place before adding an entity. Below the cap of its kind the reservation always
+ * succeeds; at the cap, the kind's policy either refuses the new entity or retires the oldest live one to
+ * make room. The budget remembers which kinds reached their cap in the current game.
+ * The live entities of each kind are kept in a linked hash set, which keeps them in spawn order for
+ * RETIRE_OLDEST while removing any of them in constant time, however many are live.
+ */
+public class EntityBudget {
+    /**
+     * What happens to a new entity of a kind that is at its cap.
+     */
+    public enum Policy {
+        /**
+         * The new entity is not spawned.
+         */
+        REFUSE,
+        /**
+         * The oldest live entity of the kind is retired, and the new entity is spawned.
+         */
+        RETIRE_OLDEST
+    }
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int[] caps = new int[EntityKind.values().length];
+    private final Policy[] policies = new Policy[EntityKind.values().length];
+    private final LinkedHashSet<?>[] live = new LinkedHashSet<?>[EntityKind.values().length];
+    private final Collection<?>[] liveViews = new Collection<?>[EntityKind.values().length];
+    private final int[] retired = new int[EntityKind.values().length];
+    private final int[] refused = new int[EntityKind.values().length];
+    private final boolean[] reached = new boolean[EntityKind.values().length];
+
+    /**
+     * Constructs a new EntityBudget instance, with no caps.
+     */
+    public EntityBudget() {
+        Arrays.fill(caps, UNLIMITED);
+        Arrays.fill(policies, Policy.REFUSE);
+        for (int i = 0; i < live.length; i++) {
+            live[i] = new LinkedHashSet<Retirable>();
+            liveViews[i] = Collections.unmodifiableCollection(live[i]);
+        }
+    }
+
+    /**
+     * Sets the cap on the live entities of a kind.
+     *
+     * @param kind   The kind of entity.
+     * @param cap    The maximal number of live entities of the kind.
+     * @param policy What happens to a new entity when the kind is at its cap.
+     */
+    public void setCap(EntityKind kind, int cap, Policy policy) {
+        caps[kind.ordinal()] = cap;
+        policies[kind.ordinal()] = policy;
+    }
+
+    /**
+     * Reserves a place for a new entity of a kind, retiring the oldest live one if the kind is at its cap
+     * and its policy is RETIRE_OLDEST.
+     *
+     * @param kind The kind of the new entity.
+     * @return True if the entity may be spawned; false if its kind is at its cap and refuses new entities.
+     */
+    public boolean reserve(EntityKind kind) {
+        int k = kind.ordinal();
+        if (live[k].size() < caps[k]) {
+            return true;
+        }
+        reached[k] = true;
+        if (policies[k] == Policy.RETIRE_OLDEST && !live[k].isEmpty()) {
+            oldest(kind).retire();
+            retired[k]++;
+            return true;
+        }
+        refused[k]++;
+        return false;
+    }
+
+    /**
+     * Retires every live entity and clears the counts, for a new game.
+     */
+    public void reset() {
+        for (EntityKind kind : EntityKind.values()) {
+            while (!live[kind.ordinal()].isEmpty()) {
+                oldest(kind).retire();
+            }
+        }
+        Arrays.fill(retired, 0);
+        Arrays.fill(refused, 0);
+        Arrays.fill(reached, false);
+    }
+
+    /**
+     * Counts a new entity as live.
+     *
+     * @param entity The entity added to the game.
+     */
+    public void add(Retirable entity) {
+        liveOf(entity.getKind()).add(entity);
+    }
+
+    /**
+     * Stops counting an entity as live.
+     *
+     * @param entity The entity leaving the game.
+     * @return True if the entity was live; false if it was already removed.
+     */
+    public boolean remove(Retirable entity) {
+        return liveOf(entity.getKind()).remove(entity);
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return The number of live entities of the kind.
+     */
+    public int getLiveCount(EntityKind kind) {
+        return live[kind.ordinal()].size();
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return A read-only view of the live entities of the kind, oldest first.
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<Retirable> getLive(EntityKind kind) {
+        return (Collection<Retirable>) liveViews[kind.ordinal()];
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return True if the kind reached its cap since the game started.
+     */
+    public boolean hasReachedCap(EntityKind kind) {
+        return reached[kind.ordinal()];
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return The number of entities of the kind retired to make room for new ones.
+     */
+    public int getRetiredCount(EntityKind kind) {
+        return retired[kind.ordinal()];
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return The number of new entities of the kind refused at the cap.
+     */
+    public int getRefusedCount(EntityKind kind) {
+        return refused[kind.ordinal()];
+    }
+
+    /**
+     * Lists the live entities of a kind whose center is below a line. The center is computed from the
+     * entity's stored corner and dimensions, as getCenter() would allocate a vector per entity.
+     *
+     * @param kind   A kind of entity.
+     * @param bottom The y coordinate of the line.
+     * @param out    The list the entities are added to.
+     */
+    void collectBelow(EntityKind kind, float bottom, List<Retirable> out) {
+        for (Retirable entity : liveOf(kind)) {
+            if (entity.getTopLeftCorner().y() + entity.getDimensions().y() * Constants.CENTER_FACTOR > bottom) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * @param kind A kind of entity with live entities.
+     * @return The oldest live entity of the kind.
+     */
+    private Retirable oldest(EntityKind kind) {
+        return liveOf(kind).iterator().next();
+    }
+
+    /**
+     * @param kind A kind of entity.
+     * @return The live entities of the kind, oldest first.
+     */
+    @SuppressWarnings("unchecked")
+    private LinkedHashSet<Retirable> liveOf(EntityKind kind) {
+        return (LinkedHashSet<Retirable>) live[kind.ordinal()];
+    }
+}
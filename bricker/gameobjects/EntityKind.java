@@ -0,0 +1,75 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * The kinds of game objects in the Bricker game, used instead of string tags to identify objects on
+ * collision paths.
+ */
+public enum EntityKind {
+    /**
+     * The main ball.
+     */
+    BALL("ball"),
+    /**
+     * A puck spawned by a puck brick.
+     */
+    PUCK("puck"),
+    /**
+     * The player's paddle.
+     */
+    PADDLE("paddle"),
+    /**
+     * A temporary extra paddle.
+     */
+    EXTRA_PADDLE("extraPaddle"),
+    /**
+     * A wall at the edge of the window.
+     */
+    WALL("wall"),
+    /**
+     * A brick.
+     */
+    BRICK("brick"),
+    /**
+     * A heart falling from an extra life brick.
+     */
+    FALLING_HEART("fallingHeart"),
+    /**
+     * Any other game object, e.g. the background or the life counter.
+     */
+    OTHER("");
+
+    private final String tag;
+    private final int bit;
+
+    /**
+     * @param tag The danogl tag of objects of this kind, kept for debugging.
+     */
+    EntityKind(String tag) {
+        this.tag = tag;
+        this.bit = 1 << ordinal();
+    }
+
+    /**
+     * @return The danogl tag of objects of this kind.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @return The bit of this kind in a CollisionMatrix mask.
+     */
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * @param gameObject A game object.
+     * @return The kind of the game object, OTHER if it is not an Entity.
+     */
+    public static EntityKind of(GameObject gameObject) {
+        return gameObject instanceof Entity ? ((Entity) gameObject).getKind() : OTHER;
+    }
+}
@@ -0,0 +1,86 @@
+package bricker.gameobjects;
+
+import bricker.main.Constants;
+import bricker.main.GameTools;
+import danogl.util.Vector2;
+
+/**
+ * The pools of the short-lived game objects of a single Bricker game: pucks, falling hearts and
+ * extra paddles, and the budget capping how many of them are live. Pucks are capped at the
+ * bricker.maxPucks system property (MAX_LIVE_PUCKS by default), retiring the oldest, and extra paddles
+ * at MAX_EXTRA_PADDLE, refusing new ones. The sweeper retires the objects that fall below the window.
+ */
+public class EntityPools {
+    private final GameObjectPool<Puck> puckPool;
+    private final GameObjectPool<FallingHeart> fallingHeartPool;
+    private final GameObjectPool<ExtraPaddle> extraPaddlePool;
+    private final EntityBudget budget;
+    private final OutOfBoundsSweeper sweeper;
+
+    /**
+     * Constructs a new EntityPools instance. Objects are only created once they are first acquired.
+     *
+     * @param tools Utility class for accessing game tools and resources.
+     */
+    public EntityPools(GameTools tools) {
+        float puckSize = Constants.PUCK_RELATIVE_SIZE * Constants.BALL_SIZE;
+        this.puckPool = new GameObjectPool<>(() -> new Puck(Vector2.ZERO, new Vector2(puckSize, puckSize),
+                tools.readImage(Constants.PUCK_IM_PATH, true), tools.readSound(Constants.BALL_SOUND_PATH),
+                tools));
+        this.fallingHeartPool = new GameObjectPool<>(() -> new FallingHeart(Vector2.ZERO,
+                new Vector2(Constants.HEART_SIZE, Constants.HEART_SIZE),
+                tools.readImage(Constants.HEART_PATH, false), tools));
+        this.extraPaddlePool = new GameObjectPool<>(() -> new ExtraPaddle(Vector2.ZERO,
+                new Vector2(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT),
+                tools.readImage(Constants.PADDLE_IM_PATH, false), tools));
+        this.budget = new EntityBudget();
+        int maxPucks = Integer.getInteger(Constants.MAX_PUCKS_PROPERTY, Constants.MAX_LIVE_PUCKS);
+        budget.setCap(EntityKind.PUCK, maxPucks, EntityBudget.Policy.RETIRE_OLDEST);
+        budget.setCap(EntityKind.EXTRA_PADDLE, Constants.MAX_EXTRA_PADDLE, EntityBudget.Policy.REFUSE);
+        this.sweeper = new OutOfBoundsSweeper(budget, tools.getEventQueue(), tools.getWindowDimensions().y());
+    }
+
+    /**
+     * @return The pool of pucks.
+     */
+    public GameObjectPool<Puck> getPuckPool() {
+        return puckPool;
+    }
+
+    /**
+     * @return The pool of falling hearts.
+     */
+    public GameObjectPool<FallingHeart> getFallingHeartPool() {
+        return fallingHeartPool;
+    }
+
+    /**
+     * @return The pool of extra paddles.
+     */
+    public GameObjectPool<ExtraPaddle> getExtraPaddlePool() {
+        return extraPaddlePool;
+    }
+
+    /**
+     * Makes the objects released during the tick available to be acquired again. Called once the tick ends.
+     */
+    public void recycle() {
+        puckPool.recycle();
+        fallingHeartPool.recycle();
+        extraPaddlePool.recycle();
+    }
+
+    /**
+     * @return The budget of live pucks, falling hearts and extra paddles.
+     */
+    public EntityBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return The sweeper of the objects that fall below the window.
+     */
+    public OutOfBoundsSweeper getSweeper() {
+        return sweeper;
+    }
+}
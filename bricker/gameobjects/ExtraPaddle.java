@@ -11,11 +11,14 @@ import danogl.util.Vector2;
 /**
  * Represents an extra paddle in the Bricker game.
  * This paddle is temporary and will be removed after a certain number of collisions.
+ * Extra paddles are recycled through the extra paddle pool of EntityPools, and counted by its entity
+ * budget.
  */
-public class ExtraPaddle extends Paddle {
-    private static int numOfPaddles = 0;
+public class ExtraPaddle extends Paddle implements Retirable {
     private int numOfCollisions = 0;
     private final GameObjectCollection gameObjects;
+    private final GameObjectPool<ExtraPaddle> extraPaddlePool;
+    private final EntityBudget budget;
 
     /**
      * Constructs a new ExtraPaddle instance.
@@ -30,13 +33,33 @@ public class ExtraPaddle extends Paddle {
     public ExtraPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, GameTools tools) {
         super(topLeftCorner, dimensions, renderable, tools);
         this.gameObjects = tools.getGameObjects();
-        numOfPaddles ++;
-        setTag(Constants.EXTRA_PADDLE_TAG);
+        this.extraPaddlePool = tools.getEntityPools().getExtraPaddlePool();
+        this.budget = tools.getEntityPools().getBudget();
+        setTag(getKind().getTag());
+    }
+
+    /**
+     * @return The kind of this game object, EXTRA_PADDLE.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.EXTRA_PADDLE;
+    }
+
+    /**
+     * Resets a paddle acquired from the pool, placing it at a location with no collisions counted.
+     *
+     * @param center The center of the paddle.
+     */
+    public void reset(Vector2 center) {
+        setCenter(center);
+        numOfCollisions = 0;
     }
 
     /**
      * Handles the event when the extra paddle collides with another game object.
-     * Increments the collision count and removes the paddle if it exceeds the maximum allowed collisions.
+     * Increments the collision count when hit by a ball or puck, and removes the paddle if it exceeds the
+     * maximum allowed collisions.
      *
      * @param other     The other game object that this paddle collided with.
      * @param collision The collision details.
@@ -44,28 +67,23 @@ public class ExtraPaddle extends Paddle {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        if (!other.getTag().equals(Constants.WALL_TAG)) {
+        EntityKind kind = EntityKind.of(other);
+        if (kind == EntityKind.BALL || kind == EntityKind.PUCK) {
             numOfCollisions++;
         }
-        if (numOfCollisions >= Constants.MAX_COLLISIONS){
-            gameObjects.removeGameObject(this);
-            numOfPaddles--;
+        if (numOfCollisions >= Constants.MAX_COLLISIONS) {
+            retire();
         }
     }
 
     /**
-     * @return The current number of extra paddles.
+     * Removes the paddle from the game and the entity budget, and returns it to the extra paddle pool.
      */
-    public static int getNumOfPaddles() {
-        return numOfPaddles;
-    }
-
-    /**
-     * Sets the number of extra paddles.
-     *
-     * @param num The number of extra paddles to set.
-     */
-    public static void setNumPaddles(int num) {
-         numOfPaddles = num;
+    @Override
+    public void retire() {
+        if (budget.remove(this)) {
+            gameObjects.removeGameObject(this);
+            extraPaddlePool.release(this);
+        }
     }
 }
@@ -1,18 +1,25 @@
 package bricker.gameobjects;
 
 import bricker.main.Constants;
+import bricker.main.GameEvent;
+import bricker.main.GameEventQueue;
 import bricker.main.GameTools;
 import danogl.GameObject;
+import danogl.collisions.Collision;
 import danogl.collisions.GameObjectCollection;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
 /**
  * Represents a falling heart in the Bricker game.
+ * Falling hearts are recycled through the falling heart pool of EntityPools, and retired by the
+ * OutOfBoundsSweeper when they fall below the window.
  */
-public class FallingHeart extends Heart{
-    private final Vector2 windowDimensions;
+public class FallingHeart extends Heart implements Retirable {
     private final GameObjectCollection gameObjects;
+    private final GameObjectPool<FallingHeart> fallingHeartPool;
+    private final EntityBudget budget;
+    private final GameEventQueue eventQueue;
 
     /**
      * Constructs a new FallingHeart instance.
@@ -26,32 +33,68 @@ public class FallingHeart extends Heart{
      */
     public FallingHeart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, GameTools tools) {
         super(topLeftCorner, dimensions, renderable);
-        this.windowDimensions = tools.getWindowDimensions();
         this.gameObjects = tools.getGameObjects();
+        this.fallingHeartPool = tools.getEntityPools().getFallingHeartPool();
+        this.budget = tools.getEntityPools().getBudget();
+        this.eventQueue = tools.getEventQueue();
+        setTag(getKind().getTag());
     }
 
     /**
-     * Determines if the heart should collide with the specified game object.
+     * @return The kind of this game object, FALLING_HEART.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.FALLING_HEART;
+    }
+
+    /**
+     * Resets a heart acquired from the pool, placing it at a location and letting it fall.
+     *
+     * @param center The center of the heart.
+     */
+    public void reset(Vector2 center) {
+        setCenter(center);
+        setVelocity(new Vector2(Constants.FALLING_HEART_SPEED_X, Constants.FALLING_HEART_SPEED_Y));
+    }
+
+    /**
+     * Determines if the heart should collide with the specified game object, according to the
+     * CollisionMatrix.
      *
      * @param other The other game object.
      * @return True if the other object is a paddle; false otherwise.
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        return other.getTag().equals(Constants.PADDLE_TAG);
+        return CollisionMatrix.canCollide(this, other);
     }
 
     /**
-     * Updates the state of the falling heart. Removes the heart if it falls below the bottom of the window.
+     * Handles the heart being caught by a paddle: publishes a HEART_CAUGHT event and retires the heart, so
+     * it grants a single extra life.
      *
-     * @param deltaTime The time elapsed since the last update.
+     * @param other     The paddle that caught the heart.
+     * @param collision The collision details.
+     */
+    @Override
+    public void onCollisionEnter(GameObject other, Collision collision) {
+        super.onCollisionEnter(other, collision);
+        if (budget.remove(this)) {
+            eventQueue.publish(GameEvent.HEART_CAUGHT);
+            gameObjects.removeGameObject(this);
+            fallingHeartPool.release(this);
+        }
+    }
+
+    /**
+     * Removes the heart from the game and the entity budget, and returns it to the falling heart pool.
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        float heartLocation = getCenter().y();
-        if (heartLocation > windowDimensions.y()) {
+    public void retire() {
+        if (budget.remove(this)) {
             gameObjects.removeGameObject(this);
+            fallingHeartPool.release(this);
         }
     }
 }
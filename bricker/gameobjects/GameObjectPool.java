@@ -0,0 +1,100 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of recycled game objects of a single type.
+ * Short-lived objects are acquired from the pool instead of being constructed, and released back to it
+ * when they leave the game, so bursts of spawns do not allocate new objects.
+ * Released objects only become available again once the tick ends (recycle), so an object removed from the
+ * game is never added back to it in the same tick, whatever order danogl applies the two in.
+ *
+ * @param <T> The type of the pooled game objects.
+ */
+public class GameObjectPool<T extends GameObject> {
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> available = new ArrayDeque<>();
+    private final ArrayDeque<T> released = new ArrayDeque<>();
+    private int createdCount = 0;
+    private int inUseCount = 0;
+    private long acquiredCount = 0;
+
+    /**
+     * Constructs a new, empty GameObjectPool instance.
+     *
+     * @param factory Creates a new object when the pool has no available objects.
+     */
+    public GameObjectPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Takes an object out of the pool, creating one if none is available.
+     * The caller is responsible for resetting the object's state.
+     *
+     * @return A pooled object.
+     */
+    public T acquire() {
+        T object = available.pollLast();
+        if (object == null) {
+            object = factory.get();
+            createdCount++;
+        }
+        inUseCount++;
+        acquiredCount++;
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool, after it was removed from the game. It can be acquired again after the
+     * next recycle.
+     *
+     * @param object The object to return.
+     */
+    public void release(T object) {
+        inUseCount--;
+        released.addLast(object);
+    }
+
+    /**
+     * Makes the objects released during the tick available again. Called once the tick ends.
+     */
+    public void recycle() {
+        T object;
+        while ((object = released.pollFirst()) != null) {
+            available.addLast(object);
+        }
+    }
+
+    /**
+     * @return The number of objects the pool has created.
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * @return The number of objects currently acquired from the pool.
+     */
+    public int getInUseCount() {
+        return inUseCount;
+    }
+
+    /**
+     * @return The number of times an object was acquired from the pool.
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * @return The number of objects waiting in the pool to be reused, including those released during the
+     * current tick.
+     */
+    public int getAvailableCount() {
+        return available.size() + released.size();
+    }
+}
@@ -5,7 +5,6 @@ import bricker.main.GameTools;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
 import danogl.gui.rendering.TextRenderable;
 import danogl.util.Counter;
@@ -21,7 +20,7 @@ public class GraphicLifeCounter extends GameObject {
     private final Counter livesCounter;
     private final GameObjectCollection gameObjects;
     private final Vector2 windowDimensions;
-    private final ImageReader imageReader;
+    private final GameTools gameTools;
     private final Heart[] hearts;
     private TextRenderable textRenderable;
     private GameObject numericLifeCounter;
@@ -44,7 +43,7 @@ public class GraphicLifeCounter extends GameObject {
         this.livesCounter = livesCounter;
         this.gameObjects = gameTools.getGameObjects();
         this.windowDimensions = gameTools.getWindowDimensions();
-        this.imageReader = gameTools.getImageReader();
+        this.gameTools = gameTools;
 
         this.hearts = new Heart[Constants.MAX_LIVES];
         for (int i = 0; i < InitNumOfLives; i++) {
@@ -73,6 +72,23 @@ public class GraphicLifeCounter extends GameObject {
         }
     }
 
+    /**
+     * Resets the lives counter and its hearts, for a new game.
+     *
+     * @param numOfLives The number of lives to start with.
+     */
+    public void reset(int numOfLives) {
+        for (int i = 0; i < livesCounter.value(); i++) {
+            gameObjects.removeGameObject(hearts[i], Layer.UI);
+        }
+        livesCounter.reset();
+        livesCounter.increaseBy(numOfLives);
+        for (int i = 0; i < numOfLives; i++) {
+            hearts[i] = addHeart(i);
+        }
+        updateNumericLifeCounter();
+    }
+
     /**
      * Initializes the numeric life counter.
      */
@@ -113,7 +129,7 @@ public class GraphicLifeCounter extends GameObject {
      * @return The created Heart object.
      */
     private Heart addHeart(int heartInd) {
-        Renderable heartImage = imageReader.readImage(Constants.HEART_PATH, false);
+        Renderable heartImage = gameTools.readImage(Constants.HEART_PATH, false);
         Heart heart = new Heart(new Vector2(heartInd * Constants.MIN_DISTANCE,
                 windowDimensions.y() - Constants.MIN_DISTANCE), new Vector2(Constants.HEART_SIZE,
                 Constants.HEART_SIZE), heartImage);
@@ -0,0 +1,78 @@
+package bricker.gameobjects;
+
+import bricker.main.Constants;
+import bricker.main.GameEvent;
+import bricker.main.GameEventQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects the objects that fell below the bottom of the window, once per tick for all of them.
+ * The live pucks and falling hearts are already listed by the EntityBudget, so instead of every object
+ * checking its own position in its update, the sweeper walks those lists in one pass, reading positions
+ * without allocating. It then retires the objects below the window as one batch, each in constant time,
+ * and publishes a single LEFT_WORLD event for all of them. It also publishes BALL_LOST when the main ball
+ * falls below the window.
+ */
+public class OutOfBoundsSweeper {
+    private static final EntityKind[] SWEPT_KINDS = {EntityKind.PUCK, EntityKind.FALLING_HEART};
+
+    private final EntityBudget budget;
+    private final GameEventQueue eventQueue;
+    private final float bottom;
+    private final List<Retirable> leaving = new ArrayList<>();
+    private Ball mainBall;
+    private int leftCount = 0;
+
+    /**
+     * Constructs a new OutOfBoundsSweeper instance.
+     *
+     * @param budget     The budget listing the live short-lived objects.
+     * @param eventQueue The queue of the game events.
+     * @param bottom     The y coordinate of the bottom of the window.
+     */
+    public OutOfBoundsSweeper(EntityBudget budget, GameEventQueue eventQueue, float bottom) {
+        this.budget = budget;
+        this.eventQueue = eventQueue;
+        this.bottom = bottom;
+    }
+
+    /**
+     * Sets the main ball, whose fall below the window loses a life.
+     *
+     * @param mainBall The main ball.
+     */
+    public void setMainBall(Ball mainBall) {
+        this.mainBall = mainBall;
+    }
+
+    /**
+     * Retires the short-lived objects whose center is below the window, publishing LEFT_WORLD if there
+     * were any, and publishes BALL_LOST if the main ball's center is below the window.
+     */
+    public void sweep() {
+        leaving.clear();
+        for (EntityKind kind : SWEPT_KINDS) {
+            budget.collectBelow(kind, bottom, leaving);
+        }
+        for (int i = 0; i < leaving.size(); i++) {
+            leaving.get(i).retire();
+        }
+        leftCount = leaving.size();
+        if (leftCount > 0) {
+            eventQueue.publish(GameEvent.LEFT_WORLD);
+        }
+        if (mainBall != null && mainBall.getTopLeftCorner().y() +
+                mainBall.getDimensions().y() * Constants.CENTER_FACTOR > bottom) {
+            eventQueue.publish(GameEvent.BALL_LOST);
+        }
+    }
+
+    /**
+     * @return The number of short-lived objects retired by the last sweep.
+     */
+    public int getLeftCount() {
+        return leftCount;
+    }
+}
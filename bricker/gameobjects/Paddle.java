@@ -2,9 +2,8 @@ package bricker.gameobjects;
 
 import bricker.main.Constants;
 import bricker.main.GameTools;
+import bricker.main.KeyInput;
 import danogl.GameObject;
-import danogl.collisions.Collision;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -14,10 +13,9 @@ import java.awt.event.KeyEvent;
  * Represents a paddle in the Bricker game.
  * The paddle is controlled by the player and moves left and right within the game window.
  */
-public class Paddle extends GameObject {
+public class Paddle extends GameObject implements Entity {
     private Vector2 windowDimensions;
-    private UserInputListener inputListener;
-    private boolean addLife = false;
+    private KeyInput keyInput;
 
     /**
      * Constructs a new Paddle instance.
@@ -31,9 +29,29 @@ public class Paddle extends GameObject {
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, GameTools tools) {
         super(topLeftCorner, dimensions, renderable);
-        this.inputListener = tools.getUserInputListener();
+        this.keyInput = tools.getKeyInput();
         this.windowDimensions = tools.getWindowDimensions();
-        setTag(Constants.PADDLE_TAG);
+        setTag(getKind().getTag());
+    }
+
+    /**
+     * @return The kind of this game object, PADDLE.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.PADDLE;
+    }
+
+    /**
+     * Determines if the paddle should collide with the specified game object, according to the
+     * CollisionMatrix.
+     *
+     * @param other The other game object.
+     * @return True if the other object may collide with a paddle; false otherwise.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionMatrix.canCollide(this, other);
     }
 
     /**
@@ -45,10 +63,10 @@ public class Paddle extends GameObject {
     public void update(float deltaTime) {
         super.update(deltaTime);
         Vector2 movementDir = Vector2.ZERO;
-        if(inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
+        if(keyInput.isKeyPressed(KeyEvent.VK_LEFT)) {
             movementDir = movementDir.add(Vector2.LEFT);
         }
-        if(inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+        if(keyInput.isKeyPressed(KeyEvent.VK_RIGHT)) {
             movementDir = movementDir.add(Vector2.RIGHT);
         }
         setVelocity(movementDir.mult(Constants.PADDLE_MOVE_SPEED));
@@ -63,36 +81,4 @@ public class Paddle extends GameObject {
             transform().setTopLeftCornerX(windowDimensions.x() - getDimensions().x());
         }
     }
-
-    /**
-     * Handles the event when the paddle collides with another game object.
-     *
-     * @param other     The other game object that this paddle collided with.
-     * @param collision The collision details.
-     */
-    @Override
-    public void onCollisionEnter(GameObject other, Collision collision) {
-        super.onCollisionEnter(other, collision);
-        if(other.getTag().equals(Constants.FALLING_HEART_TAG) && other.shouldCollideWith(this)) {
-            addLife = true;
-        }
-    }
-
-    /**
-     * Checks if an extra life should be added due to a collision with a falling heart.
-     *
-     * @return True if an extra life should be added; false otherwise.
-     */
-    public boolean isAddLife() {
-        return addLife;
-    }
-
-    /**
-     * Sets whether an extra life should be added.
-     *
-     * @param addLife True if an extra life should be added; false otherwise.
-     */
-    public void setAddLife(boolean addLife) {
-        this.addLife = addLife;
-    }
 }
@@ -12,11 +12,14 @@ import java.util.Random;
 /**
  * Represents a puck in the Bricker game.
  * The puck is a specialized type of ball with specific behavior, such as random movement and removal when it
- * falls below the window.
+ * falls below the window, detected by the OutOfBoundsSweeper. Pucks are recycled through the puck pool of
+ * EntityPools.
  */
-public class Puck extends Ball{
-    private Vector2 windowDimensions;
+public class Puck extends Ball implements Retirable {
     private final GameObjectCollection gameObjects;
+    private final GameObjectPool<Puck> puckPool;
+    private final EntityBudget budget;
+    private final Random random;
 
     /**
      * Constructs a new Puck instance.
@@ -33,29 +36,46 @@ public class Puck extends Ball{
                 GameTools tools) {
         super(topLeftCorner, dimensions, renderable, collisionSound, tools);
         this.gameObjects = tools.getGameObjects();
-        this.windowDimensions = tools.getWindowDimensions();
-        setTag(Constants.PUCK_TAG);
+        this.puckPool = tools.getEntityPools().getPuckPool();
+        this.budget = tools.getEntityPools().getBudget();
+        this.random = tools.getRandom();
+        setTag(getKind().getTag());
     }
 
     /**
-     * Updates the state of the puck. Removes the puck if it falls below the bottom of the window.
+     * @return The kind of this game object, PUCK.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.PUCK;
+    }
+
+    /**
+     * Resets a puck acquired from the pool, placing it at a location with a new random movement.
      *
-     * @param deltaTime The time elapsed since the last update.
+     * @param center The center of the puck.
+     */
+    public void reset(Vector2 center) {
+        setCenter(center);
+        setPuckMovement();
+    }
+
+    /**
+     * Removes the puck from the game and the entity budget, and returns it to the puck pool.
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        float puckHeight = getCenter().y();
-        if (puckHeight > windowDimensions.y()) {
+    public void retire() {
+        if (budget.remove(this)) {
             gameObjects.removeGameObject(this);
+            puckPool.release(this);
         }
     }
 
     /**
-     * Sets the initial movement of the puck with a random direction.
+     * Sets the initial movement of the puck with a random direction, drawn from the game's seeded random
+     * source.
      */
     public void setPuckMovement() {
-        Random random = new Random();
         double angle = random.nextDouble() * Math.PI;
         float velocityX = (float)Math.cos(angle) * Constants.BALL_SPEED;
         float velocityY = (float)Math.sin(angle) * Constants.BALL_SPEED;
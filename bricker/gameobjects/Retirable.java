@@ -0,0 +1,29 @@
+package bricker.gameobjects;
+
+import danogl.gui.rendering.GameObjectRenderer;
+import danogl.util.Vector2;
+
+/**
+ * A short-lived entity whose live count is tracked by the EntityBudget, and which can be retired early.
+ */
+public interface Retirable extends Entity {
+    /**
+     * @return The top-left corner of the entity, as implemented by its GameObject.
+     */
+    Vector2 getTopLeftCorner();
+
+    /**
+     * @return The dimensions of the entity, as implemented by its GameObject.
+     */
+    Vector2 getDimensions();
+
+    /**
+     * @return The renderer of the entity, as implemented by its GameObject.
+     */
+    GameObjectRenderer renderer();
+
+    /**
+     * Removes the entity from the game and returns it to its pool. Does nothing if it is not live.
+     */
+    void retire();
+}
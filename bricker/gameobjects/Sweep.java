@@ -0,0 +1,157 @@
+package bricker.gameobjects;
+
+/**
+ * A box moving along a straight displacement, tested against static boxes for its time of impact.
+ * Times are fractions of the displacement, from 0 (the start) to 1 (the end). A single instance is reused
+ * for every test, so sweeping allocates nothing.
+ */
+class Sweep {
+    /**
+     * The time of impact of a box that is not hit.
+     */
+    static final float NO_HIT = Float.POSITIVE_INFINITY;
+
+    private float left;
+    private float top;
+    private float right;
+    private float bottom;
+    private float dx;
+    private float dy;
+    private boolean hitFromSide;
+
+    /**
+     * Sets the moving box and its displacement.
+     *
+     * @param left   The left of the box at the start.
+     * @param top    The top of the box at the start.
+     * @param width  The width of the box.
+     * @param height The height of the box.
+     * @param dx     The horizontal displacement.
+     * @param dy     The vertical displacement.
+     */
+    void set(float left, float top, float width, float height, float dx, float dy) {
+        this.left = left;
+        this.top = top;
+        this.right = left + width;
+        this.bottom = top + height;
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * @return The left of the area swept by the box.
+     */
+    float getMinX() {
+        return Math.min(left, left + dx);
+    }
+
+    /**
+     * @return The top of the area swept by the box.
+     */
+    float getMinY() {
+        return Math.min(top, top + dy);
+    }
+
+    /**
+     * @return The right of the area swept by the box.
+     */
+    float getMaxX() {
+        return Math.max(right, right + dx);
+    }
+
+    /**
+     * @return The bottom of the area swept by the box.
+     */
+    float getMaxY() {
+        return Math.max(bottom, bottom + dy);
+    }
+
+    /**
+     * @return True if the last box hit by test was hit on its left or right side.
+     */
+    boolean isHitFromSide() {
+        return hitFromSide;
+    }
+
+    /**
+     * Finds the time the moving box first touches a static box.
+     * If the boxes already overlap at the start, the static box is hit at once when the moving box moves
+     * deeper into it along the axis of least penetration, and not hit when it moves out of it.
+     *
+     * @param boxLeft   The left of the static box.
+     * @param boxTop    The top of the static box.
+     * @param boxRight  The right of the static box.
+     * @param boxBottom The bottom of the static box.
+     * @return The time of impact, or NO_HIT if the boxes do not meet during the displacement.
+     */
+    float test(float boxLeft, float boxTop, float boxRight, float boxBottom) {
+        float xEntry;
+        float xExit;
+        if (dx > 0) {
+            xEntry = (boxLeft - right) / dx;
+            xExit = (boxRight - left) / dx;
+        }
+        else if (dx < 0) {
+            xEntry = (boxRight - left) / dx;
+            xExit = (boxLeft - right) / dx;
+        }
+        else if (right > boxLeft && left < boxRight) {
+            xEntry = Float.NEGATIVE_INFINITY;
+            xExit = Float.POSITIVE_INFINITY;
+        }
+        else {
+            return NO_HIT;
+        }
+        float yEntry;
+        float yExit;
+        if (dy > 0) {
+            yEntry = (boxTop - bottom) / dy;
+            yExit = (boxBottom - top) / dy;
+        }
+        else if (dy < 0) {
+            yEntry = (boxBottom - top) / dy;
+            yExit = (boxTop - bottom) / dy;
+        }
+        else if (bottom > boxTop && top < boxBottom) {
+            yEntry = Float.NEGATIVE_INFINITY;
+            yExit = Float.POSITIVE_INFINITY;
+        }
+        else {
+            return NO_HIT;
+        }
+        float entry = Math.max(xEntry, yEntry);
+        float exit = Math.min(xExit, yExit);
+        if (entry >= exit || entry > 1 || exit <= 0) {
+            return NO_HIT;
+        }
+        if (entry < 0) {
+            return testOverlap(boxLeft, boxTop, boxRight, boxBottom);
+        }
+        // the box is hit on the axis it reached last
+        hitFromSide = xEntry > yEntry;
+        return entry;
+    }
+
+    /**
+     * Tests a static box that the moving box already overlaps at the start.
+     *
+     * @param boxLeft   The left of the static box.
+     * @param boxTop    The top of the static box.
+     * @param boxRight  The right of the static box.
+     * @param boxBottom The bottom of the static box.
+     * @return 0 if the moving box moves deeper into the static box, and NO_HIT otherwise.
+     */
+    private float testOverlap(float boxLeft, float boxTop, float boxRight, float boxBottom) {
+        float penetrationX = Math.min(right - boxLeft, boxRight - left);
+        float penetrationY = Math.min(bottom - boxTop, boxBottom - top);
+        boolean fromSide = penetrationX < penetrationY;
+        // the displacement points towards the static box's center along the axis of least penetration
+        float towards = fromSide ? (boxLeft + boxRight - left - right) * dx :
+                (boxTop + boxBottom - top - bottom) * dy;
+        if (towards <= 0) {
+            return NO_HIT;
+        }
+        hitFromSide = fromSide;
+        return 0;
+    }
+}
@@ -0,0 +1,42 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * Represents a wall at the edge of the window in the Bricker game.
+ * Balls and pucks bounce off walls through the BrickGrid's continuous collision, not through danogl.
+ */
+public class Wall extends GameObject implements Entity {
+    /**
+     * Constructs a new, invisible Wall instance.
+     *
+     * @param topLeftCorner Position of the object, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height in window coordinates.
+     */
+    public Wall(Vector2 topLeftCorner, Vector2 dimensions) {
+        super(topLeftCorner, dimensions, null);
+        setTag(EntityKind.WALL.getTag());
+    }
+
+    /**
+     * @return The kind of this game object, WALL.
+     */
+    @Override
+    public EntityKind getKind() {
+        return EntityKind.WALL;
+    }
+
+    /**
+     * Determines if the wall should collide with the specified game object, according to the
+     * CollisionMatrix.
+     *
+     * @param other The other game object.
+     * @return True if the other object may collide with a wall; false otherwise.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionMatrix.canCollide(this, other);
+    }
+}
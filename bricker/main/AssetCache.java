@@ -0,0 +1,247 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache of the decoded images and sounds of the Bricker game.
+ * Every asset in Constants is read once when the game starts, and the same Renderable and Sound instances
+ * are then shared by all game objects, so no asset is read on the collision path.
+ * The small images are then packed into a SpriteAtlas, and the cache hands out the atlas regions instead
+ * of the separate images, which are released.
+ * Every image is decoded by AssetPreloader.decode: ahead of time, in parallel, by an AssetPreloader started
+ * before the window opens, or on the game thread for an image it did not preload, so an image looks the
+ * same whichever way it was read. Without a sound reader (headless mode) the cache hands out null
+ * stand-ins. The cache's counters and startup timing are reported in the FrameProfiler's snapshots.
+ */
+public class AssetCache {
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final String[] OPAQUE_IMAGES = {Constants.BACKGROUND_IM_PATH, Constants.BRICK_IM_PATH,
+            Constants.HEART_PATH, Constants.PADDLE_IM_PATH};
+    private static final String[] TRANSPARENT_IMAGES = {Constants.BALL_PATH, Constants.PUCK_IM_PATH,
+            Constants.PADDLE_IM_PATH};
+    private static final String[] SOUNDS = {Constants.BALL_SOUND_PATH};
+    private static final String[] UNPACKED_IMAGES = {Constants.BACKGROUND_IM_PATH};
+
+    private final SoundReader soundReader;
+    private final AssetPreloader preloader;
+    private final Map<String, Renderable> opaqueImages = new HashMap<>();
+    private final Map<String, Renderable> transparentImages = new HashMap<>();
+    private final Map<String, Sound> sounds = new HashMap<>();
+    private int hits = 0;
+    private int misses = 0;
+    private long bytesResident = 0;
+    private long waitNanos = 0;
+    private long preloadNanos = 0;
+
+    /**
+     * Constructs a new, empty AssetCache instance.
+     *
+     * @param soundReader The reader for loading sounds, or null in headless mode.
+     * @param preloader   The preloader decoding the images in parallel, or null to decode each image on its
+     *                    first request.
+     */
+    AssetCache(SoundReader soundReader, AssetPreloader preloader) {
+        this.soundReader = soundReader;
+        this.preloader = preloader;
+    }
+
+    /**
+     * Starts decoding every image listed in Constants in parallel, for the cache of the first game.
+     *
+     * @return The started preloader.
+     */
+    static AssetPreloader startPreloader() {
+        return new AssetPreloader(OPAQUE_IMAGES, TRANSPARENT_IMAGES);
+    }
+
+    /**
+     * Reads every image and sound listed in Constants into the cache, and packs the small images into a
+     * sprite atlas. With a preloader, first waits for all its images. The time spent is kept for
+     * getWaitNanos and getPreloadNanos.
+     */
+    void preload() {
+        if (isHeadless()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (preloader != null) {
+            preloader.await();
+        }
+        waitNanos = System.nanoTime() - start;
+        for (String path : OPAQUE_IMAGES) {
+            readImage(path, false);
+        }
+        for (String path : TRANSPARENT_IMAGES) {
+            readImage(path, true);
+        }
+        for (String path : SOUNDS) {
+            readSound(path);
+        }
+        packAtlas();
+        preloadNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * @return True if the cache has no sound reader and hands out null stand-ins.
+     */
+    public boolean isHeadless() {
+        return soundReader == null;
+    }
+
+    /**
+     * Returns the shared image of a path, reading it on the first request.
+     *
+     * @param path The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the top-left pixel color should be treated as transparent.
+     * @return The shared renderable of the image (an atlas region, once packed), or null in headless mode.
+     * @throws java.io.UncheckedIOException If the image can not be decoded.
+     */
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        if (isHeadless()) {
+            return null;
+        }
+        Map<String, Renderable> images = isTopLeftPixelTransparent ? transparentImages : opaqueImages;
+        Renderable image = images.get(path);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+        misses++;
+        BufferedImage decoded = preloader == null ? null : preloader.getImage(path, isTopLeftPixelTransparent);
+        if (decoded == null) {
+            decoded = AssetPreloader.decode(path, isTopLeftPixelTransparent);
+        }
+        ImageRenderable readImage = new ImageRenderable(decoded);
+        images.put(path, readImage);
+        bytesResident += imageBytes(readImage);
+        return readImage;
+    }
+
+    /**
+     * Returns the shared sound of a path, reading it on the first request.
+     *
+     * @param path The path of the sound file.
+     * @return The shared sound, or null in headless mode.
+     */
+    public Sound readSound(String path) {
+        if (soundReader == null) {
+            return null;
+        }
+        Sound sound = sounds.get(path);
+        if (sound != null) {
+            hits++;
+            return sound;
+        }
+        misses++;
+        sound = soundReader.readSound(path);
+        sounds.put(path, sound);
+        bytesResident += soundFileSize(path);
+        return sound;
+    }
+
+    /**
+     * @return The number of requests served from the cache.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of requests that had to read an asset.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The estimated number of bytes held by the cached assets. Images are counted as decoded
+     * 32-bit pixels, and sounds by the size of their (uncompressed) files.
+     */
+    public long getBytesResident() {
+        return bytesResident;
+    }
+
+    /**
+     * @return The nanoseconds preload waited for the preloader to decode the images, or 0 without one.
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * @return The nanoseconds preload took in all, including the wait for the preloader.
+     */
+    public long getPreloadNanos() {
+        return preloadNanos;
+    }
+
+    /**
+     * @return The nanoseconds from the start of the preloader until all images were decoded, or 0 without a
+     * preloader.
+     */
+    public long getDecodedNanos() {
+        return preloader == null ? 0 : preloader.getReadyNanos();
+    }
+
+    /**
+     * Packs the cached images, except the large ones in UNPACKED_IMAGES, into a sprite atlas, and replaces
+     * them in the cache by their regions of the atlas.
+     */
+    private void packAtlas() {
+        List<Map<String, Renderable>> packedMaps = new ArrayList<>();
+        List<String> packedPaths = new ArrayList<>();
+        List<Image> packedImages = new ArrayList<>();
+        for (Map<String, Renderable> images : Arrays.asList(opaqueImages, transparentImages)) {
+            for (Map.Entry<String, Renderable> entry : images.entrySet()) {
+                if (!Arrays.asList(UNPACKED_IMAGES).contains(entry.getKey()) &&
+                        entry.getValue() instanceof ImageRenderable) {
+                    ImageRenderable image = (ImageRenderable) entry.getValue();
+                    packedMaps.add(images);
+                    packedPaths.add(entry.getKey());
+                    packedImages.add(image.getImage());
+                    bytesResident -= imageBytes(image);
+                }
+            }
+        }
+        SpriteAtlas atlas = new SpriteAtlas(packedImages.toArray(new Image[0]), Constants.ATLAS_WIDTH);
+        for (int i = 0; i < packedPaths.size(); i++) {
+            packedMaps.get(i).put(packedPaths.get(i), atlas.getRegion(i));
+        }
+        bytesResident += atlas.getBytes();
+    }
+
+    /**
+     * @param image A decoded image.
+     * @return The number of bytes of the image's 32-bit pixels.
+     */
+    private static long imageBytes(ImageRenderable image) {
+        return (long) image.width() * image.height() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * @param path The path of a sound file.
+     * @return The size of the file, or 0 if it can not be read.
+     */
+    private static long soundFileSize(String path) {
+        try {
+            return Files.size(Paths.get(path));
+        }
+        catch (IOException e) {
+            return 0;
+        }
+    }
+}
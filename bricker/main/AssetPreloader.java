@@ -0,0 +1,141 @@
+package bricker.main;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Decodes the images of the Bricker game on a pool of worker threads, while danogl opens the window.
+ * Each image is decoded and, if its top-left pixel color is transparent, converted on a worker, so the game
+ * thread only waits once for all of them (await) and wraps them in renderables. decode is the only way the
+ * game decodes images, so the AssetCache uses it too for the images that were not preloaded.
+ */
+public class AssetPreloader {
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Future<BufferedImage>> opaqueImages = new HashMap<>();
+    private final Map<String, Future<BufferedImage>> transparentImages = new HashMap<>();
+    private long readyNanos = 0;
+
+    /**
+     * Starts decoding images on a pool of daemon worker threads, one per processor at most.
+     *
+     * @param opaquePaths      The paths of the images read as they are.
+     * @param transparentPaths The paths of the images whose top-left pixel color is transparent.
+     */
+    AssetPreloader(String[] opaquePaths, String[] transparentPaths) {
+        int numThreads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                opaquePaths.length + transparentPaths.length));
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads, task -> {
+            Thread thread = new Thread(task, "bricker-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String path : opaquePaths) {
+            opaqueImages.put(path, executor.submit(() -> decode(path, false)));
+        }
+        for (String path : transparentPaths) {
+            transparentImages.put(path, executor.submit(() -> decode(path, true)));
+        }
+        // the submitted images are still decoded, and the threads end after them
+        executor.shutdown();
+    }
+
+    /**
+     * Waits until every image was decoded (or failed to), the barrier before the first tick.
+     */
+    void await() {
+        for (Map<String, Future<BufferedImage>> images : Arrays.asList(opaqueImages, transparentImages)) {
+            for (String path : images.keySet()) {
+                get(images, path);
+            }
+        }
+        if (readyNanos == 0) {
+            readyNanos = System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Returns a decoded image, waiting for it if it is still being decoded.
+     *
+     * @param path                      The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the top-left pixel color should be treated as transparent.
+     * @return The decoded image, or null if it was not preloaded.
+     * @throws IllegalStateException If the image could not be decoded.
+     */
+    BufferedImage getImage(String path, boolean isTopLeftPixelTransparent) {
+        return get(isTopLeftPixelTransparent ? transparentImages : opaqueImages, path);
+    }
+
+    /**
+     * @return The nanoseconds from the start of the preloader until all images were decoded, or 0 before
+     * await returned.
+     */
+    long getReadyNanos() {
+        return readyNanos;
+    }
+
+    /**
+     * @param images The decoded images by path.
+     * @param path   The path of an image file.
+     * @return The decoded image, or null if it was not preloaded.
+     */
+    private static BufferedImage get(Map<String, Future<BufferedImage>> images, String path) {
+        Future<BufferedImage> image = images.get(path);
+        if (image == null) {
+            return null;
+        }
+        try {
+            return image.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Decodes an image file, clearing the pixels of its top-left pixel color if requested.
+     *
+     * @param path                      The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the top-left pixel color should be treated as transparent.
+     * @return The decoded image.
+     * @throws UncheckedIOException If the file can not be read or is not an image.
+     */
+    static BufferedImage decode(String path, boolean isTopLeftPixelTransparent) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new File(path));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (image == null) {
+            throw new UncheckedIOException(new IOException("Not a readable image: " + path));
+        }
+        if (!isTopLeftPixelTransparent) {
+            return image;
+        }
+        BufferedImage transparent = new BufferedImage(image.getWidth(), image.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        int transparentColor = image.getRGB(0, 0);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int color = image.getRGB(x, y);
+                transparent.setRGB(x, y, color == transparentColor ? 0 : color);
+            }
+        }
+        return transparent;
+    }
+}
@@ -0,0 +1,136 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+
+import java.util.IdentityHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays the sounds of the Bricker game from a dedicated mixing thread.
+ * The game thread only puts the sound in a single-producer single-consumer ring buffer, without locks or
+ * allocations, and the mixing thread plays it. The mixing thread coalesces plays of the same sound that
+ * are closer than a minimum interval, and drops plays while all the voices are busy, so a swarm of pucks
+ * can not pile up overlapping sounds. A voice counts as busy for a fixed duration after it starts a sound.
+ */
+public class AudioMixer {
+    private final Sound[] queue;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final long[] voiceEndTimes;
+    private final long voiceDurationNanos;
+    private final long minIntervalNanos;
+    private final Map<Sound, Long> lastPlayTimes = new IdentityHashMap<>();
+    private final Thread thread;
+    private volatile boolean waiting = false;
+    private volatile int played = 0;
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    /**
+     * Constructs a new AudioMixer instance, and starts its mixing thread.
+     *
+     * @param numVoices     The number of sounds that may play at once.
+     * @param queueCapacity The number of plays that may wait for the mixing thread, a power of two.
+     * @param voiceDuration The time a voice stays busy after it starts a sound, in seconds.
+     * @param minInterval   The minimal time between two plays of the same sound, in seconds.
+     */
+    AudioMixer(int numVoices, int queueCapacity, float voiceDuration, float minInterval) {
+        if (Integer.bitCount(queueCapacity) != 1) {
+            throw new IllegalArgumentException("Queue capacity is not a power of two: " + queueCapacity);
+        }
+        this.queue = new Sound[queueCapacity];
+        this.mask = queueCapacity - 1;
+        this.voiceEndTimes = new long[numVoices];
+        Arrays.fill(voiceEndTimes, System.nanoTime());
+        this.voiceDurationNanos = (long) (voiceDuration * 1e9);
+        this.minIntervalNanos = (long) (minInterval * 1e9);
+        this.thread = new Thread(this::mix, "bricker-audio");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Asks the mixing thread to play a sound. Called from the game thread only. If the queue is full, the
+     * play is dropped.
+     *
+     * @param sound The sound to play.
+     */
+    public void play(Sound sound) {
+        long t = tail.get();
+        if (t - head.get() == queue.length) {
+            dropped.incrementAndGet();
+            return;
+        }
+        queue[(int) t & mask] = sound;
+        tail.set(t + 1);
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * @return The number of sounds the mixing thread played.
+     */
+    public int getPlayed() {
+        return played;
+    }
+
+    /**
+     * @return The number of plays dropped, because the queue was full, a voice was not free, or the same
+     * sound was played too recently.
+     */
+    public int getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * The loop of the mixing thread: plays the queued sounds, and parks while the queue is empty.
+     */
+    private void mix() {
+        while (true) {
+            long h = head.get();
+            if (h == tail.get()) {
+                waiting = true;
+                // recheck after announcing, so a play queued in between is not missed
+                if (h == tail.get()) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+                continue;
+            }
+            int slot = (int) h & mask;
+            Sound sound = queue[slot];
+            queue[slot] = null;
+            head.set(h + 1);
+            mixOne(sound, System.nanoTime());
+        }
+    }
+
+    /**
+     * Plays a sound on a free voice, unless it was played too recently or no voice is free.
+     *
+     * @param sound The sound to play.
+     * @param now   The current time, in nanoseconds.
+     */
+    private void mixOne(Sound sound, long now) {
+        Long lastPlayTime = lastPlayTimes.get(sound);
+        if (lastPlayTime != null && now - lastPlayTime < minIntervalNanos) {
+            dropped.incrementAndGet();
+            return;
+        }
+        for (int voice = 0; voice < voiceEndTimes.length; voice++) {
+            if (voiceEndTimes[voice] - now <= 0) {
+                voiceEndTimes[voice] = now + voiceDurationNanos;
+                lastPlayTimes.put(sound, now);
+                sound.play();
+                played++;
+                return;
+            }
+        }
+        dropped.incrementAndGet();
+    }
+}
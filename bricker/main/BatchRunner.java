@@ -0,0 +1,105 @@
+package bricker.main;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Plays many independent headless Bricker games in parallel on a fork-join pool, and aggregates their
+ * outcomes. Every game has its own manager, tools, pools and seeded random source, so games share no
+ * mutable state.
+ * Usage: BatchRunner &lt;games&gt; &lt;bricks in row&gt; &lt;rows&gt; [threads] [base seed].
+ */
+public class BatchRunner {
+    private static final int GAMES_ARG = 0;
+    private static final int BRICKS_IN_ROW_ARG = 1;
+    private static final int ROWS_ARG = 2;
+    private static final int THREADS_ARG = 3;
+    private static final int SEED_ARG = 4;
+    private static final float NANOS_PER_SECOND = 1_000_000_000f;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new BatchRunner instance.
+     *
+     * @param parallelism The number of games to play at the same time.
+     */
+    public BatchRunner(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Plays a batch of games on the same grid. Game i is seeded with baseSeed + i, so a batch is
+     * reproducible regardless of the parallelism.
+     *
+     * @param numGames       The number of games to play.
+     * @param numBricksInRow The number of bricks in a row.
+     * @param numRows        The number of rows of bricks.
+     * @param baseSeed       The seed of the first game.
+     * @param maxTicks       The maximal number of ticks of each game.
+     * @return The aggregated outcomes of the games.
+     */
+    public BatchStatistics run(long numGames, int numBricksInRow, int numRows, long baseSeed, int maxTicks) {
+        try {
+            return pool.submit(() -> LongStream.range(0, numGames).parallel()
+                    .mapToObj(i -> playGame(numBricksInRow, numRows, baseSeed + i, maxTicks))
+                    .collect(BatchStatistics::new, BatchStatistics::add, BatchStatistics::combine)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the pool of the runner.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays a single headless game with no key input.
+     *
+     * @param numBricksInRow The number of bricks in a row.
+     * @param numRows        The number of rows of bricks.
+     * @param seed           The seed of the game.
+     * @param maxTicks       The maximal number of ticks of the game.
+     * @return The summary of the game.
+     */
+    private static GameSummary playGame(int numBricksInRow, int numRows, long seed, int maxTicks) {
+        BrickerGameManager game = new BrickerGameManager(Constants.WINDOW_TITLE, Constants.WINDOW_DIMENSIONS,
+                numBricksInRow, numRows, seed);
+        game.initializeHeadless(KeyInput.NONE);
+        game.runHeadless(Constants.HEADLESS_DELTA_TIME, maxTicks);
+        return game.summarize();
+    }
+
+    /**
+     * Plays a batch of games and prints the aggregated outcomes.
+     *
+     * @param args The number of games, bricks in a row and rows, and optionally the number of threads and
+     *             the base seed.
+     */
+    public static void main(String[] args) {
+        long numGames = Long.parseLong(args[GAMES_ARG]);
+        int numBricksInRow = Integer.parseInt(args[BRICKS_IN_ROW_ARG]);
+        int numRows = Integer.parseInt(args[ROWS_ARG]);
+        int threads = args.length > THREADS_ARG ? Integer.parseInt(args[THREADS_ARG])
+                : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > SEED_ARG ? Long.parseLong(args[SEED_ARG]) : 0;
+
+        BatchRunner runner = new BatchRunner(threads);
+        long start = System.nanoTime();
+        BatchStatistics statistics = runner.run(numGames, numBricksInRow, numRows, baseSeed,
+                Constants.BATCH_MAX_TICKS);
+        runner.shutdown();
+        System.out.println(statistics);
+        System.out.printf("played in %.2fs on %d threads%n", (System.nanoTime() - start) / NANOS_PER_SECOND,
+                threads);
+    }
+}
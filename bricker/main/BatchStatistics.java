@@ -0,0 +1,98 @@
+package bricker.main;
+
+/**
+ * Aggregated outcomes of many simulated Bricker games.
+ * Instances are mutable accumulators, filled by one thread each and then combined.
+ */
+public class BatchStatistics {
+    private long games = 0;
+    private long wins = 0;
+    private long losses = 0;
+    private long ticksToClear = 0;
+    private long pucksSpawned = 0;
+    private long livesLost = 0;
+
+    /**
+     * Adds the outcome of a single game.
+     *
+     * @param summary The summary of the game.
+     */
+    public void add(GameSummary summary) {
+        games++;
+        if (summary.getResult() == GameResult.WON) {
+            wins++;
+            ticksToClear += summary.getTicks();
+        }
+        else if (summary.getResult() == GameResult.LOST) {
+            losses++;
+        }
+        pucksSpawned += summary.getPucksSpawned();
+        livesLost += summary.getLivesLost();
+    }
+
+    /**
+     * Adds the outcomes accumulated by another instance.
+     *
+     * @param other The other statistics.
+     */
+    public void combine(BatchStatistics other) {
+        games += other.games;
+        wins += other.wins;
+        losses += other.losses;
+        ticksToClear += other.ticksToClear;
+        pucksSpawned += other.pucksSpawned;
+        livesLost += other.livesLost;
+    }
+
+    /**
+     * @return The number of games played.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return The fraction of the games that were won.
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * @return The fraction of the games that were lost; the rest reached the tick limit.
+     */
+    public double getLossRate() {
+        return games == 0 ? 0 : (double) losses / games;
+    }
+
+    /**
+     * @return The average number of ticks it took to clear all bricks, over the games that were won.
+     */
+    public double getAverageTicksToClear() {
+        return wins == 0 ? 0 : (double) ticksToClear / wins;
+    }
+
+    /**
+     * @return The average number of pucks spawned per game.
+     */
+    public double getAveragePucksSpawned() {
+        return games == 0 ? 0 : (double) pucksSpawned / games;
+    }
+
+    /**
+     * @return The average number of lives lost per game.
+     */
+    public double getAverageLivesLost() {
+        return games == 0 ? 0 : (double) livesLost / games;
+    }
+
+    /**
+     * @return The statistics as a short report.
+     */
+    @Override
+    public String toString() {
+        return String.format("games: %d, win rate: %.3f, loss rate: %.3f, ticks to clear: %.1f, "
+                        + "pucks spawned: %.2f, lives lost: %.2f", games, getWinRate(), getLossRate(),
+                getAverageTicksToClear(), getAveragePucksSpawned(), getAverageLivesLost());
+    }
+}
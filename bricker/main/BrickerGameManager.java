@@ -5,6 +5,7 @@ import bricker.brick_strategies.BrickStrategyFactory;
 import bricker.gameobjects.*;
 import danogl.GameManager;
 import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
 import danogl.components.CoordinateSpace;
 import danogl.gui.*;
@@ -12,6 +13,9 @@ import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Random;
 
 /**
@@ -23,17 +27,46 @@ public class BrickerGameManager extends GameManager {
     private int numRows = Constants.DEF_NUM_ROWS;
     private Vector2 windowDimensions;
     private WindowController windowController;
-    private UserInputListener inputListener;
-    private ImageReader imageReader;
+    private KeyInput keyInput;
     private SoundReader soundReader;
+    private GameObjectCollection gameObjects;
     private GameTools tools;
-    private Paddle paddle;
+    private BrickGrid brickGrid;
     private Ball ball;
     private Counter lifeCounter;
     private Counter bricksCounter;
     private GraphicLifeCounter graphicLifeCounter;
+    private Paddle paddle;
+    private BakedBrickLayer bakedLayer;
+    private BrickStrategyFactory strategyFactory;
+    private AssetCache assetCache;
+    private AssetPreloader assetPreloader;
     private boolean cameraActiveFlag = false;
     private int curCollisForCamera = 0;
+    private GameResult tickResult = GameResult.IN_PROGRESS;
+    private final GameEventQueue.Handler eventHandler = this::handleEvent;
+    private boolean headless = false;
+    private GameResult gameResult = GameResult.IN_PROGRESS;
+    private int tickCount = 0;
+    private int livesLost = 0;
+    private long seed = new Random().nextLong();
+    private boolean fixedSeed = false;
+    private final String recordPath = System.getProperty(Constants.RECORD_PROPERTY);
+    private InputRecorder inputRecorder;
+    private final String levelPath = System.getProperty(Constants.LEVEL_PROPERTY);
+    private LevelFile level;
+    private final float tickDuration = 1f / Float.parseFloat(
+            System.getProperty(Constants.TICK_RATE_PROPERTY, Float.toString(Constants.DEFAULT_TICK_RATE)));
+    private float timeAccumulator = 0;
+    private final int[] strategyWeights =
+            BrickStrategyFactory.loadWeights(System.getProperty(Constants.STRATEGIES_PROPERTY));
+    private RenderInterpolator interpolator;
+    private ViewportCuller culler;
+    private final boolean bakeBricks =
+            Boolean.parseBoolean(System.getProperty(Constants.BAKE_BRICKS_PROPERTY, "true"));
+    private int gameNumber = 0;
+    private final FrameProfiler frameProfiler = FrameProfiler.fromSystemProperties();
+    private AudioMixer audioMixer;
 
     /**
      * Constructor for the BrickerGameManager class if no parameters were given by the user.
@@ -42,6 +75,7 @@ public class BrickerGameManager extends GameManager {
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions) {
         super(windowTitle, windowDimensions);
+        this.windowDimensions = windowDimensions;
         initCounters();
     }
 
@@ -54,12 +88,30 @@ public class BrickerGameManager extends GameManager {
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int numBricksInRow, int numRows) {
         super(windowTitle, windowDimensions);
+        this.windowDimensions = windowDimensions;
         this.numBricksInRow = numBricksInRow;
         this.numRows = numRows;
         initCounters();
 
     }
 
+    /**
+     * Constructor for the BrickerGameManager class with customizable brick rows and columns, and a fixed
+     * random seed. Every game started by this manager uses the seed, so it reproduces the same brick
+     * strategies and, when stepped with a fixed time step, the same ball trajectories.
+     * @param windowTitle The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param numBricksInRow The number of bricks in a row.
+     * @param numRows The number of rows of bricks.
+     * @param seed The seed of the game's random source.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int numBricksInRow, int numRows,
+                              long seed) {
+        this(windowTitle, windowDimensions, numBricksInRow, numRows);
+        this.seed = seed;
+        this.fixedSeed = true;
+    }
+
     /**
      * This method initializes a new game. It creates all game objects,
      * sets their values and initial positions and allow the start of a game.
@@ -75,13 +127,149 @@ public class BrickerGameManager extends GameManager {
 
         this.windowDimensions = windowController.getWindowDimensions();
         this.windowController = windowController;
-        this.inputListener = inputListener;
-        this.imageReader = imageReader;
+        this.gameObjects = super.gameObjects();
+        openLevel();
+        KeyInput liveInput = inputListener::isKeyPressed;
+        this.keyInput = recordPath == null ? liveInput : startRecording(liveInput);
         this.soundReader = soundReader;
-        this.tools = new GameTools(this.gameObjects(), this.windowDimensions, this.inputListener,
-                this.imageReader, this.soundReader, bricksCounter);
+        this.brickGrid = createBrickGrid();
+        if (assetCache == null) {
+            // the decoded assets are kept by the games that follow
+            assetCache = new AssetCache(this.soundReader, assetPreloader);
+            assetCache.preload();
+            frameProfiler.setAssetCache(assetCache);
+        }
+        if (audioMixer == null) {
+            audioMixer = new AudioMixer(Constants.AUDIO_VOICES, Constants.AUDIO_QUEUE_CAPACITY,
+                    Constants.AUDIO_VOICE_DURATION, Constants.AUDIO_MIN_INTERVAL);
+        }
+        this.tools = new GameTools(gameObjects, this.windowDimensions, this.keyInput,
+                assetCache, bricksCounter, brickGrid, new Random(seed), frameProfiler, audioMixer);
+        this.timeAccumulator = 0;
+        this.interpolator = new RenderInterpolator(gameObjects);
+        createGameObjects();
+        this.culler = new ViewportCuller(tools.getEntityPools().getBudget(), brickGrid);
+    }
+
+    /**
+     * Runs the game in a window. The images are decoded in parallel while danogl opens the window, and the
+     * first game waits for them before its first tick.
+     */
+    @Override
+    public void run() {
+        assetPreloader = AssetCache.startPreloader();
+        super.run();
+    }
+
+    /**
+     * Initializes a new game without a window, images or sounds, so it can be stepped programmatically
+     * with step(float). danogl only creates its collection of game objects when it opens a window, so a
+     * headless game builds its own collection, and each tick updates it directly instead of through
+     * danogl's update. The game ends with a GameResult instead of a "Play again?" dialog.
+     * @param keyInput the source of keyboard state, e.g. KeyInput.NONE or a scripted stand-in.
+     */
+    public void initializeHeadless(KeyInput keyInput) {
+        this.headless = true;
+        this.gameObjects = new GameObjectCollection();
+        this.gameResult = GameResult.IN_PROGRESS;
+        this.tickCount = 0;
+        this.livesLost = 0;
+        this.keyInput = keyInput;
+        openLevel();
+        this.brickGrid = createBrickGrid();
+        this.tools = new GameTools(gameObjects, this.windowDimensions, this.keyInput,
+                new AssetCache(null, null), bricksCounter, brickGrid, new Random(seed), frameProfiler,
+                null);
+        this.timeAccumulator = 0;
+        createGameObjects();
+    }
+
+    /**
+     * Advances a headless game by a single frame, which runs as many fixed ticks as it accumulates.
+     * Does nothing once the game has ended.
+     * @param deltaTime the time of the frame, in seconds.
+     * @return the result of the game after this frame.
+     */
+    public GameResult step(float deltaTime) {
+        if (gameResult == GameResult.IN_PROGRESS) {
+            update(deltaTime);
+        }
+        return gameResult;
+    }
+
+    /**
+     * Steps a headless game with frames of a fixed time until it ends or the tick limit is reached.
+     * A frame that crosses the limit still runs all of its ticks.
+     * @param deltaTime the time of each frame, in seconds.
+     * @param maxTicks the number of ticks after which no further frame is stepped.
+     * @return the result of the game, IN_PROGRESS if the tick limit was reached first.
+     */
+    public GameResult runHeadless(float deltaTime, int maxTicks) {
+        while (gameResult == GameResult.IN_PROGRESS && tickCount < maxTicks) {
+            step(deltaTime);
+        }
+        return gameResult;
+    }
 
+    /**
+     * @return the result of a headless game, IN_PROGRESS while it is still running.
+     */
+    public GameResult getGameResult() {
+        return gameResult;
+    }
+
+    /**
+     * @return the number of fixed ticks simulated since the headless game was initialized.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return a summary of the current headless game, for batch statistics.
+     */
+    public GameSummary summarize() {
+        return new GameSummary(gameResult, tickCount, livesLost,
+                tools.getEntityPools().getPuckPool().getAcquiredCount(), bricksCounter.value());
+    }
+
+    /**
+     * @return the profiler timing the frames of this manager's games.
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
+    /**
+     * @return the seed of the current game's random source.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Describes what, besides the player's input, decides how this manager's next game plays out. The level
+     * file of the bricker.level system property is opened first, if it is set.
+     * @return the setup of the game.
+     */
+    public GameSetup getSetup() {
+        openLevel();
+        return new GameSetup(seed, numBricksInRow, numRows, windowDimensions, tickDuration, strategyWeights,
+                level == null ? 0 : level.getChecksum());
+    }
+
+    /**
+     * @return the tools and resources of the current game, e.g. for building strategies in benchmarks.
+     */
+    public GameTools getGameTools() {
+        return tools;
+    }
 
+    /**
+     * Creates all game objects, sets their values and initial positions.
+     */
+    private void createGameObjects() {
+        cameraActiveFlag = false;
         // create background
         createBackground();
         // create walls
@@ -98,115 +286,319 @@ public class BrickerGameManager extends GameManager {
 
     /**
      * This method overrides the GameManager update method.
-     * It checks for game status, and triggers a new game popup.
-     * @param deltaTime used in the super's update method.
+     * The frame's time is added to an accumulator, and the game is simulated in fixed ticks of
+     * 1 / bricker.tickRate seconds while whole ticks are accumulated, so the game behaves the same at any
+     * frame rate. Under load at most MAX_TICKS_PER_FRAME ticks are run and the rest of the time is dropped,
+     * slowing the game down instead of falling further behind. On every frame, with or without a tick, the
+     * moving objects are drawn interpolated between the last two ticks (see RenderInterpolator), and while a
+     * camera follows the ball the objects outside its view are not drawn (see ViewportCuller).
+     * @param deltaTime the time elapsed since the last frame.
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        shouldAddLife();
-        checkCamera();
-        checkForGameEnd();
+        long frameStart = frameProfiler.start();
+        keyInput.beginFrame(deltaTime);
+        if (culler != null) {
+            culler.restore();
+        }
+        if (interpolator != null) {
+            interpolator.restore();
+        }
+        timeAccumulator += deltaTime;
+        int ticks = Math.min((int) (timeAccumulator / tickDuration), Constants.MAX_TICKS_PER_FRAME);
+        for (int i = 0; i < ticks; i++) {
+            timeAccumulator -= tickDuration;
+            if (i == ticks - 1 && interpolator != null) {
+                interpolator.capture();
+            }
+            if (tick()) {
+                // the next game starts with an empty accumulator, and without interpolation from this one
+                timeAccumulator = 0;
+                if (interpolator != null) {
+                    interpolator.clear();
+                }
+                break;
+            }
+        }
+        if (timeAccumulator >= tickDuration) {
+            // frame skipping: the time beyond the last tick of a late frame is dropped
+            timeAccumulator %= tickDuration;
+        }
+        if (interpolator != null) {
+            interpolator.interpolate(timeAccumulator / tickDuration);
+        }
+        if (culler != null) {
+            culler.cull(camera());
+        }
+        frameProfiler.endFrame(frameStart);
     }
 
     /**
-     * Checks if an extra life should be added and updates the graphic life counter accordingly.
-     * Resets the addLife flag on the paddle after processing.
+     * Simulates a single fixed tick of the game. Every phase of the tick is timed by the frame profiler.
+     * The game state changes of the tick are published by the game objects, the strategies and the
+     * out-of-bounds sweeper to the event queue, which is drained once, after danogl's update.
+     * @return true if the game ended in this tick.
      */
-    private void shouldAddLife() {
-        if(paddle.isAddLife()) {
-            graphicLifeCounter.addLife();
+    private boolean tick() {
+        tickCount++;
+        long phaseStart = frameProfiler.start();
+        if (headless) {
+            // the headless collection moves the objects and detects their collisions, without a window
+            gameObjects.update(tickDuration);
+        }
+        else {
+            super.update(tickDuration);
+        }
+        frameProfiler.endPhase(FrameProfiler.Phase.PHYSICS, phaseStart);
+        phaseStart = frameProfiler.start();
+        tickResult = GameResult.IN_PROGRESS;
+        tools.getEntityPools().getSweeper().sweep();
+        tools.getEventQueue().drain(eventHandler);
+        // objects retired during this tick may only be reused by the next one
+        tools.getEntityPools().recycle();
+        if (cameraActiveFlag) {
+            checkCamera();
         }
-        paddle.setAddLife(false);
+        frameProfiler.endPhase(FrameProfiler.Phase.EVENTS, phaseStart);
+        phaseStart = frameProfiler.start();
+        boolean ended = checkForGameEnd();
+        frameProfiler.endPhase(FrameProfiler.Phase.GAME_END, phaseStart);
+        return ended;
     }
 
     /**
-     * This method checks if the game is over - if we lost or won.
+     * Handles a game event published during the tick.
+     * A caught heart adds a life; a lost ball removes one, ending the game when none are left; the last
+     * destroyed brick wins the game; and a started camera starts counting the main ball's collisions.
+     * @param event the event.
      */
-    private void checkForGameEnd() {
-        double ballHeight = ball.getCenter().y();
-        String prompt = "";
-        if(ballHeight > windowDimensions.y()) {
-            lifeCounter.decrement();
-            graphicLifeCounter.removeHeart();
-
-            if(lifeCounter.value() <= 0) {
-                prompt = Constants.LOSE_PROMPT;
-            }
-            else {
-                ball.setBallMovement();
-            }
+    private void handleEvent(GameEvent event) {
+        switch (event) {
+            case BRICK_DESTROYED:
+                if (bricksCounter.value() == 0) {
+                    tickResult = GameResult.WON;
+                }
+                break;
+            case HEART_CAUGHT:
+                graphicLifeCounter.addLife();
+                break;
+            case BALL_LOST:
+                lifeCounter.decrement();
+                livesLost++;
+                graphicLifeCounter.removeHeart();
+                if (lifeCounter.value() <= 0) {
+                    if (tickResult == GameResult.IN_PROGRESS) {
+                        tickResult = GameResult.LOST;
+                    }
+                }
+                else {
+                    ball.setBallMovement();
+                }
+                break;
+            case LEFT_WORLD:
+                // the sweeper already retired the objects, and none of them affects the game's state
+                break;
+            case CAMERA_STARTED:
+                curCollisForCamera = ball.getCollisionCounter();
+                cameraActiveFlag = true;
+                break;
+            default:
+                break;
         }
-        // check if the user won or the W key was pressed
-        if(bricksCounter.value() == 0 || inputListener.isKeyPressed(KeyEvent.VK_W)) {
+    }
+
+    /**
+     * This method checks if the game is over - if we lost or won, as decided by the events of the tick.
+     * @return true if the game ended in this tick.
+     */
+    private boolean checkForGameEnd() {
+        GameResult result = tickResult;
+        // check if the W key was pressed
+        if(keyInput.isKeyPressed(KeyEvent.VK_W)) {
             // we won
-            prompt = Constants.WIN_PROMPT;
+            result = GameResult.WON;
         }
 
-        if(!(prompt.isEmpty())){
+        if(result != GameResult.IN_PROGRESS){
+            if (headless) {
+                // a headless game reports its result instead of asking the player
+                gameResult = result;
+                return true;
+            }
+            stopRecording();
+            String prompt = result == GameResult.WON ? Constants.WIN_PROMPT : Constants.LOSE_PROMPT;
             prompt += Constants.PLAY_AGAIN_PROMPT;
             if(windowController.openYesNoDialog(prompt)) {
                 // if the player chose to play another game, reset the required variables
-                windowController.resetGame();
-                bricksCounter = new Counter(numBricksInRow * numRows);
-                lifeCounter = new Counter(Constants.INIT_LIVES);
-                ExtraPaddle.setNumPaddles(0);
+                if (!fixedSeed) {
+                    seed = new Random().nextLong();
+                }
+                if (recordPath == null) {
+                    restartGame();
+                }
+                else {
+                    // a recording belongs to a single game, and the game objects read their keys through it
+                    windowController.resetGame();
+                    bricksCounter = new Counter(numBricksInRow * numRows);
+                    lifeCounter = new Counter(Constants.INIT_LIVES);
+                }
             }
             else {
                 windowController.closeWindow();
             }
+            return true;
         }
+        return false;
     }
 
     /**
-     * This method checks if the camera need to be turned on if it's off and a Camera strategy was activated,
-     * start counting collisions of the main ball and turn off when reached the amount to reset
+     * Starts a new game in place of the ended one, keeping the game objects, the decoded assets, the pools
+     * and the brick grid's arrays, and only resetting their state: the transient objects are retired to
+     * their pools, the grid is emptied and refilled, the baked bricks are baked again into the same image,
+     * and the ball, paddle and lives are reset. The random source is reseeded first, so a seed reproduces
+     * the same game as a fresh start. The restart is timed by the frame profiler.
      */
-    private void checkCamera(){
-        if(camera() != null && !(cameraActiveFlag)) {
-            curCollisForCamera = ball.getCollisionCounter();
-            cameraActiveFlag = true;
+    private void restartGame() {
+        long start = frameProfiler.start();
+        tools.getRandom().setSeed(seed);
+        tools.getEntityPools().getBudget().reset();
+        setCamera(null);
+        cameraActiveFlag = false;
+        brickGrid.clear(brick -> gameObjects.removeGameObject(brick, Constants.BRICK_LAYER));
+        ball.setBallMovement();
+        placePaddle();
+        fillBricks();
+        if (bakedLayer != null) {
+            bakedLayer.rebake();
         }
-        if (camera() != null && cameraActiveFlag){
-            if (ball.getCollisionCounter() == curCollisForCamera + Constants.COLLISIONS_RESET_CAMERA){
-                setCamera(null);
-                cameraActiveFlag = false;
-            }
+        graphicLifeCounter.reset(Constants.INIT_LIVES);
+        livesLost = 0;
+        frameProfiler.endPhase(FrameProfiler.Phase.RESTART, start);
+    }
+
+    /**
+     * Opens the level file of the bricker.level system property, if it is set, and takes the size of the
+     * brick grid from it. The level is mapped once and replayed by every game of this manager.
+     */
+    private void openLevel() {
+        if (levelPath == null || level != null) {
+            return;
+        }
+        try {
+            level = new LevelFile(Paths.get(levelPath));
         }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        numBricksInRow = level.getNumBricksInRow();
+        numRows = level.getNumRows();
     }
 
     /**
-     * Creates bricks for the game and adds them to the game objects.
-     * Each brick is assigned a random collision strategy from a set of strategies.
+     * Starts recording the player's input of a new game, to the record path suffixed with the game number.
+     * @param liveInput the player's key input.
+     * @return the recording key input, to be read by the game instead of the live input.
      */
-    private void createBricks() {
-        Renderable brickImage = imageReader.readImage(Constants.BRICK_IM_PATH, false);
+    private KeyInput startRecording(KeyInput liveInput) {
+        gameNumber++;
+        inputRecorder = new InputRecorder(liveInput, Paths.get(recordPath + "." + gameNumber), getSetup());
+        return inputRecorder;
+    }
+
+    /**
+     * Stops recording the player's input, if a recording is in progress.
+     */
+    private void stopRecording() {
+        if (inputRecorder != null) {
+            inputRecorder.close();
+            inputRecorder = null;
+        }
+    }
+
+    /**
+     * This method turns the camera off once the main ball reached the amount of collisions to reset, counted
+     * from the CAMERA_STARTED event. It is only called while the camera is on.
+     */
+    private void checkCamera(){
+        if (ball.getCollisionCounter() >= curCollisForCamera + Constants.COLLISIONS_RESET_CAMERA){
+            setCamera(null);
+            cameraActiveFlag = false;
+        }
+    }
+
+    /**
+     * Creates the grid index of the bricks, matching the layout of createBricks().
+     * @return the empty brick grid.
+     */
+    private BrickGrid createBrickGrid() {
         float brickWidth = windowDimensions.x() / numBricksInRow;
         float brickSpacing = windowDimensions.y() / Constants.WINDOW_HEIGHT_SPACING;
-        CollisionStrategy collisionStrategy;
-        BrickStrategyFactory strategyFactory = new BrickStrategyFactory(this, tools);
-        Random random = new Random();
-
-        for (int i = 1; i <= numRows; i++) {
-            for (int j = 0; j < numBricksInRow; j++) {
-                int stratNum = random.nextInt(Constants.NUM_STRATEGIES);
-                collisionStrategy = strategyFactory.buildStrategy(stratNum);
-                Brick brick = new Brick(new Vector2(j*brickWidth,
-                        i*(Constants.BRICK_HEIGHT + brickSpacing)),
-                        new Vector2(brickWidth, Constants.BRICK_HEIGHT), brickImage, collisionStrategy);
-                gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
+        return new BrickGrid(numBricksInRow, numRows, brickWidth, Constants.BRICK_HEIGHT + brickSpacing,
+                Constants.BRICK_HEIGHT, windowDimensions.y());
+    }
+
+    /**
+     * Creates bricks for the game in the brick grid.
+     * Each brick is assigned a random collision strategy from a set of strategies, stored as a strategy
+     * number in the grid. Only the bricks inside the window become game objects upfront; the rest are
+     * materialized by the grid if they are ever hit.
+     * The bricks layer is excluded from danogl's collision detection, as the balls query the brick grid.
+     * Unless bricker.bakeBricks is "false", the bricks inside the window are drawn by a BakedBrickLayer.
+     */
+    private void createBricks() {
+        Renderable brickImage = tools.readImage(Constants.BRICK_IM_PATH, false);
+        gameObjects.layers().shouldLayersCollide(Layer.DEFAULT, Constants.BRICK_LAYER, false);
+        // the strategies belong to the game's tools, like the pools, and are reused by warm restarts
+        strategyFactory = new BrickStrategyFactory(this, tools, strategyWeights);
+        fillBricks();
+        bakedLayer = null;
+        if (bakeBricks && brickImage != null) {
+            bakedLayer = new BakedBrickLayer(brickGrid, brickImage, windowDimensions.x());
+            gameObjects.addGameObject(bakedLayer, Constants.BRICK_LAYER);
+            brickGrid.setBakedLayer(bakedLayer);
+        }
+    }
+
+    /**
+     * Fills the empty brick grid from the level, or with random strategies, resets the bricks counter, and
+     * materializes the bricks inside the window.
+     */
+    private void fillBricks() {
+        Renderable brickImage = tools.readImage(Constants.BRICK_IM_PATH, false);
+        boolean baked = bakeBricks && brickImage != null;
+        Vector2 brickDimensions = new Vector2(brickGrid.getCellWidth(), Constants.BRICK_HEIGHT);
+
+        bricksCounter.reset();
+        if (level != null) {
+            // a level may leave cells empty, so the counter starts from the number of bricks it holds
+            bricksCounter.increaseBy(level.load(brickGrid, strategyFactory::getStrategyId));
+        }
+        else {
+            for (int index = 0; index < brickGrid.getNumCells(); index++) {
+                brickGrid.addBrick(index, strategyFactory.pickStrategyId());
             }
+            bricksCounter.increaseBy(brickGrid.getNumCells());
         }
+        // baked bricks are drawn by the baked layer, and the brick objects only keep their strategies
+        Renderable ownImage = baked ? null : brickImage;
+        brickGrid.materializeVisible(index -> {
+            CollisionStrategy collisionStrategy =
+                    strategyFactory.getStrategy(brickGrid.getStrategyId(index));
+            Brick brick = new Brick(brickGrid.getCellTopLeft(index), brickDimensions, ownImage,
+                    collisionStrategy, tools.getFrameProfiler());
+            gameObjects.addGameObject(brick, Constants.BRICK_LAYER);
+            return brick;
+        });
     }
 
     /**
      * Creates the background for the game and adds it to the game objects.
      */
     private void createBackground() {
-        Renderable backgroundImage = imageReader.readImage(Constants.BACKGROUND_IM_PATH,false);
+        Renderable backgroundImage = tools.readImage(Constants.BACKGROUND_IM_PATH,false);
         GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
         background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
-        gameObjects().addGameObject(background, Layer.BACKGROUND);
+        gameObjects.addGameObject(background, Layer.BACKGROUND);
     }
 
     /**
@@ -218,44 +610,52 @@ public class BrickerGameManager extends GameManager {
         // window.
         Vector2 sideWallsDimensions = new Vector2(Constants.WALL_WIDTH, windowDimensions.y());
         // Create the left wall at the top-left corner of the window.
-        GameObject leftWall = new GameObject(Vector2.ZERO, sideWallsDimensions, null);
+        Wall leftWall = new Wall(Vector2.ZERO, sideWallsDimensions);
         // Create the right wall at the top-right corner of the window.
-        GameObject rightWall = new GameObject(new Vector2(windowDimensions.x() - Constants.WALL_WIDTH, 0),
-                sideWallsDimensions, null);
-        GameObject upWall = new GameObject(Vector2.ZERO, new Vector2(this.windowDimensions.x(),
-                Constants.WALL_WIDTH), null);
-        // Set the tag for each wall to identify them as walls.
-        leftWall.setTag(Constants.WALL_TAG);
-        rightWall.setTag(Constants.WALL_TAG);
-        upWall.setTag(Constants.WALL_TAG);
+        Wall rightWall = new Wall(new Vector2(windowDimensions.x() - Constants.WALL_WIDTH, 0),
+                sideWallsDimensions);
+        Wall upWall = new Wall(Vector2.ZERO, new Vector2(this.windowDimensions.x(), Constants.WALL_WIDTH));
         // Add the walls to the game objects in the STATIC_OBJECTS layer.
-        gameObjects().addGameObject(leftWall, Layer.STATIC_OBJECTS);
-        gameObjects().addGameObject(rightWall, Layer.STATIC_OBJECTS);
-        gameObjects().addGameObject(upWall, Layer.STATIC_OBJECTS);
+        gameObjects.addGameObject(leftWall, Layer.STATIC_OBJECTS);
+        gameObjects.addGameObject(rightWall, Layer.STATIC_OBJECTS);
+        gameObjects.addGameObject(upWall, Layer.STATIC_OBJECTS);
+        // the balls are swept against the walls by the brick grid
+        brickGrid.addObstacle(leftWall);
+        brickGrid.addObstacle(rightWall);
+        brickGrid.addObstacle(upWall);
     }
 
     /**
      * Creates the paddle for the game and adds it to the game objects.
      */
     private void createPaddle() {
-        Renderable paddleImage = imageReader.readImage(Constants.PADDLE_IM_PATH, true);
+        Renderable paddleImage = tools.readImage(Constants.PADDLE_IM_PATH, true);
         Paddle paddle = new Paddle(Vector2.ZERO, new Vector2(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT),
                 paddleImage, tools);
+        gameObjects.addGameObject(paddle);
+        this.paddle = paddle;
+        placePaddle();
+    }
+
+    /**
+     * Places the paddle at its starting position, centered near the bottom of the window.
+     */
+    private void placePaddle() {
         paddle.setCenter(new Vector2(windowDimensions.x() * Constants.CENTER_FACTOR,
                 windowDimensions.y() - Constants.MIN_DISTANCE));
-        gameObjects().addGameObject(paddle);
-        this.paddle = paddle;
     }
 
     /**
-     * Creates the ball for the game and adds it to the game objects.
+     * Creates the ball for the game, sets it moving, and adds it to the game objects.
      */
     private void createBall() {
-        Renderable ballImage = imageReader.readImage(Constants.BALL_PATH, true);
-        Sound collisionSound = soundReader.readSound(Constants.BALL_SOUND_PATH);
+        Renderable ballImage = tools.readImage(Constants.BALL_PATH, true);
+        Sound collisionSound = tools.readSound(Constants.BALL_SOUND_PATH);
         Ball ball = new Ball(Vector2.ZERO, new Vector2(Constants.BALL_SIZE, Constants.BALL_SIZE), ballImage,
                 collisionSound, tools);
-        this.gameObjects().addGameObject(ball);
+        ball.setBallMovement();
+        gameObjects.addGameObject(ball);
+        tools.getEntityPools().getSweeper().setMainBall(ball);
         this.ball = ball;
     }
 
@@ -281,12 +681,18 @@ public class BrickerGameManager extends GameManager {
      * It initializes the BrickerGameManager with appropriate parameters and runs the game.
      * @param args Command line arguments for customizing the game setup.
      *             If valid arguments are provided, they are used to set the number of bricks in a row and
-     *             the number of rows.
+     *             the number of rows, optionally followed by a random seed that reproduces the game.
      */
     public static void main(String[] args) {
         BrickerGameManager brickerGameManager;
+        // Check if the command line arguments include a random seed.
+        if (args.length == Constants.VALID_USER_INPUT_WITH_SEED_LEN) {
+            brickerGameManager = new BrickerGameManager(Constants.WINDOW_TITLE, Constants.WINDOW_DIMENSIONS
+                    , Integer.parseInt(args[Constants.NUM_BRICKS_IN_ROW]),
+                    Integer.parseInt(args[Constants.NUM_ROWS]), Long.parseLong(args[Constants.SEED]));
+        }
         // Check if the correct number of command line arguments is provided.
-        if (args.length == Constants.VALID_USER_INPUT_LEN) {
+        else if (args.length == Constants.VALID_USER_INPUT_LEN) {
             // Initialize the game manager with the window title, dimensions,
             // number of bricks in a row, and number of rows from the command line arguments.
             brickerGameManager = new BrickerGameManager(Constants.WINDOW_TITLE, Constants.WINDOW_DIMENSIONS
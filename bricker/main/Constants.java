@@ -1,5 +1,6 @@
 package bricker.main;
 
+import danogl.collisions.Layer;
 import danogl.util.Vector2;
 
 /**
@@ -16,6 +17,10 @@ public class Constants {
      * The valid length of user input arguments
      */
     public static final int VALID_USER_INPUT_LEN = 2;
+    /**
+     * The valid length of user input arguments when a random seed is also given
+     */
+    public static final int VALID_USER_INPUT_WITH_SEED_LEN = 3;
     /**
      * The dimensions of the game window
      */
@@ -28,12 +33,96 @@ public class Constants {
      * Default number of rows of bricks (if not provided by user)
      */
     public static final int NUM_ROWS = 1;
+    /**
+     * Index of the random seed in the user input arguments (optional)
+     */
+    public static final int SEED = 2;
+    /**
+     * System property holding the file prefix to record the player's input to (optional)
+     */
+    public static final String RECORD_PROPERTY = "bricker.record";
+    /**
+     * System property enabling the frame profiler, holding the interval between dumps in seconds (optional)
+     */
+    public static final String PROFILE_PROPERTY = "bricker.profile";
+    /**
+     * System property holding the path of a properties file of brick strategy weights (optional)
+     */
+    public static final String STRATEGIES_PROPERTY = "bricker.strategies";
+    /**
+     * System property holding the path of a level file to play instead of a random level (optional)
+     */
+    public static final String LEVEL_PROPERTY = "bricker.level";
+    /**
+     * System property choosing whether the bricks are baked into one image (default "true") or drawn one by
+     * one ("false")
+     */
+    public static final String BAKE_BRICKS_PROPERTY = "bricker.bakeBricks";
+    /**
+     * System property holding the rate of the fixed simulation ticks, in ticks per second (optional)
+     */
+    public static final String TICK_RATE_PROPERTY = "bricker.tickRate";
 
-    // ball constants
     /**
-     *  Tag for ball objects
+     * System property holding the maximum number of live pucks, above which the oldest pucks are retired
+     * (optional)
+     */
+    public static final String MAX_PUCKS_PROPERTY = "bricker.maxPucks";
+    /**
+     * The default rate of the fixed simulation ticks, in ticks per second
+     */
+    public static final float DEFAULT_TICK_RATE = 60;
+    /**
+     * The maximal number of simulation ticks run in one frame; a later frame drops the rest of its time
+     */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+    /**
+     * Initial number of game events held by the event queue of a game
+     */
+    public static final int EVENT_QUEUE_CAPACITY = 16;
+    /**
+     * The distance an object may move in one tick and still be drawn interpolated; further is a jump
+     */
+    public static final float INTERPOLATION_MAX_DISTANCE = 50;
+    /**
+     * The time a frame may take before it is counted as an overrun by the frame profiler, in seconds
+     */
+    public static final float FRAME_BUDGET = 1f / 60;
+    /**
+     * The fixed frame time of simulated (headless) games, in seconds
+     */
+    public static final float HEADLESS_DELTA_TIME = 1f / 60;
+    /**
+     * The maximal number of fixed ticks of a simulated game in a batch run (ten minutes of play at the
+     * default tick rate)
      */
-    public static final String BALL_TAG = "ball";
+    public static final int BATCH_MAX_TICKS = 60 * 60 * 10;
+
+    // audio constants
+    /**
+     * Number of sounds the audio mixer may play at once
+     */
+    public static final int AUDIO_VOICES = 8;
+    /**
+     * Number of plays that may wait for the audio mixing thread (a power of two)
+     */
+    public static final int AUDIO_QUEUE_CAPACITY = 64;
+    /**
+     * The time an audio voice stays busy after it starts a sound, in seconds
+     */
+    public static final float AUDIO_VOICE_DURATION = 0.2f;
+    /**
+     * The minimal time between two plays of the same sound, in seconds (closer plays are coalesced)
+     */
+    public static final float AUDIO_MIN_INTERVAL = 0.03f;
+
+    // sprite atlas constants
+    /**
+     * Width of the sprite atlas texture, unless an image is wider
+     */
+    public static final int ATLAS_WIDTH = 1024;
+
+    // ball constants
     /**
      *  File path for the ball image
      */
@@ -56,10 +145,6 @@ public class Constants {
     public static final int VELOCITY_FLIP = -1;
 
     // puck constants
-    /**
-     *  Tag for puck objects
-     */
-    public static final String PUCK_TAG = "puck";
     /**
      *  File path for the puck image
      */
@@ -73,15 +158,12 @@ public class Constants {
      */
     public static final int PUCK_NUMBER = 2;
 
-    // paddle constants
-    /**
-     * Tag for paddle objects
-     */
-    public static final String PADDLE_TAG = "paddle";
     /**
-     *  Tag for extra paddle objects
+     * Default maximum number of live pucks
      */
-    public static final String EXTRA_PADDLE_TAG = "extraPaddle";
+    public static final int MAX_LIVE_PUCKS = 64;
+
+    // paddle constants
     /**
      * File path for the paddle image
      */
@@ -112,10 +194,6 @@ public class Constants {
     public static final int MAX_EXTRA_PADDLE = 1;
 
     // background and walls constants
-    /**
-     * Tag for wall objects
-     */
-    public static final String WALL_TAG = "wall";
     /**
      * File path for the background image
      */
@@ -147,9 +225,18 @@ public class Constants {
      */
     public static final float WINDOW_HEIGHT_SPACING  = 100;
     /**
-     * Number of collision strategies for bricks
+     * Layer of the bricks, which danogl does not pair-test against the balls (the BrickGrid does)
      */
-    public static final int NUM_STRATEGIES = 10;
+    public static final int BRICK_LAYER = Layer.STATIC_OBJECTS + 1;
+    /**
+     * Names of the collision strategies for bricks, by strategy number, as keys of the strategy weights file
+     */
+    public static final String[] STRATEGY_NAMES = {"puck", "extraPaddle", "camera", "extraLife", "double",
+            "basic"};
+    /**
+     * Default weights of the collision strategies for bricks, by strategy number
+     */
+    public static final int[] DEFAULT_STRATEGY_WEIGHTS = {1, 1, 1, 1, 1, 5};
     /**
      * Number of options for the double strategy bricks, when double strategy hasn't been picked already
      */
@@ -179,6 +266,10 @@ public class Constants {
      * double strategy random number
      */
     public static final int DOUBLE_STRAT = 4;
+    /**
+     * Basic strategy number
+     */
+    public static final int BASIC_STRAT = 5;
 
     // game prompts constants
     /**
@@ -219,10 +310,6 @@ public class Constants {
     public static final int SPACE = 1;
 
     // heart constants
-    /**
-     * Tag for falling heart objects
-     */
-    public static final String FALLING_HEART_TAG = "fallingHeart";
     /**
      * Horizontal speed of falling hearts
      */
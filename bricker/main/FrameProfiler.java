@@ -0,0 +1,190 @@
+package bricker.main;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Times the phases of every frame of a Bricker game, and every collision strategy callback, into
+ * LatencyHistograms. Recording allocates nothing, and a disabled profiler does not even read the clock.
+ * Snapshots report p50/p99/max per phase and per strategy class, along with the asset cache's counters and
+ * startup timing, and can be dumped periodically.
+ */
+public class FrameProfiler {
+    /**
+     * The timed phases of a frame.
+     */
+    public enum Phase {
+        /**
+         * The whole frame.
+         */
+        FRAME,
+        /**
+         * danogl's update of all game objects and their collisions (super.update, or the headless game's
+         * collection).
+         */
+        PHYSICS,
+        /**
+         * Sweeping the objects below the window, handling the game events of the tick (handleEvent), and
+         * turning the camera off (checkCamera).
+         */
+        EVENTS,
+        /**
+         * Checking for a won or lost game (checkForGameEnd).
+         */
+        GAME_END,
+        /**
+         * Restarting a game in place after "Play again?" (restartGame).
+         */
+        RESTART
+    }
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final boolean enabled;
+    private final long dumpIntervalNanos;
+    private final long frameBudgetNanos;
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[Phase.values().length];
+    private final Map<Class<?>, LatencyHistogram> strategyHistograms = new HashMap<>();
+    private long overrunCount = 0;
+    private long lastDump;
+    private AssetCache assetCache;
+
+    /**
+     * Constructs a new FrameProfiler instance.
+     *
+     * @param enabled             Whether anything is timed.
+     * @param dumpIntervalSeconds The interval between dumps of a snapshot to the standard output, or 0 for no
+     *                            dumps.
+     * @param frameBudgetSeconds  The time a frame may take; longer frames are counted as overruns.
+     */
+    public FrameProfiler(boolean enabled, float dumpIntervalSeconds, float frameBudgetSeconds) {
+        this.enabled = enabled;
+        this.dumpIntervalNanos = (long) (dumpIntervalSeconds * NANOS_PER_SECOND);
+        this.frameBudgetNanos = (long) (frameBudgetSeconds * NANOS_PER_SECOND);
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        this.lastDump = enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Creates a profiler configured by the bricker.profile system property: when it is set, the profiler is
+     * enabled and dumps a snapshot every that many seconds (0 for no dumps).
+     *
+     * @return The configured profiler.
+     */
+    public static FrameProfiler fromSystemProperties() {
+        String dumpInterval = System.getProperty(Constants.PROFILE_PROPERTY);
+        if (dumpInterval == null) {
+            return new FrameProfiler(false, 0, Constants.FRAME_BUDGET);
+        }
+        return new FrameProfiler(true, Float.parseFloat(dumpInterval), Constants.FRAME_BUDGET);
+    }
+
+    /**
+     * Sets the asset cache whose counters and startup timing are reported in the snapshots.
+     *
+     * @param assetCache The preloaded asset cache of the game.
+     */
+    public void setAssetCache(AssetCache assetCache) {
+        this.assetCache = assetCache;
+    }
+
+    /**
+     * @return True if the profiler times anything.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a phase or a strategy callback.
+     *
+     * @return The start time, to be passed to endPhase or endStrategy.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends timing a phase of the frame.
+     *
+     * @param phase The timed phase.
+     * @param start The start time returned by start().
+     */
+    public void endPhase(Phase phase, long start) {
+        if (enabled) {
+            phaseHistograms[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Ends timing a collision strategy callback.
+     *
+     * @param strategyClass The class of the strategy.
+     * @param start         The start time returned by start().
+     */
+    public void endStrategy(Class<?> strategyClass, long start) {
+        if (enabled) {
+            long duration = System.nanoTime() - start;
+            LatencyHistogram histogram = strategyHistograms.get(strategyClass);
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                strategyHistograms.put(strategyClass, histogram);
+            }
+            histogram.record(duration);
+        }
+    }
+
+    /**
+     * Ends timing a whole frame, counts it as an overrun if it exceeded the frame budget, and dumps a
+     * snapshot if the dump interval has passed.
+     *
+     * @param start The start time of the frame returned by start().
+     */
+    public void endFrame(long start) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        long duration = now - start;
+        phaseHistograms[Phase.FRAME.ordinal()].record(duration);
+        if (duration > frameBudgetNanos) {
+            overrunCount++;
+        }
+        if (dumpIntervalNanos > 0 && now - lastDump >= dumpIntervalNanos) {
+            lastDump = now;
+            System.out.print(snapshot());
+        }
+    }
+
+    /**
+     * @return A snapshot of the durations recorded so far.
+     */
+    public ProfileSnapshot snapshot() {
+        ProfileSnapshot snapshot = new ProfileSnapshot(overrunCount);
+        if (assetCache != null) {
+            snapshot.setAssets(assetCache);
+        }
+        for (Phase phase : Phase.values()) {
+            snapshot.add(phase.name(), phaseHistograms[phase.ordinal()]);
+        }
+        for (Map.Entry<Class<?>, LatencyHistogram> entry : strategyHistograms.entrySet()) {
+            snapshot.add(entry.getKey().getSimpleName(), entry.getValue());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clears all recorded durations and overruns.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : strategyHistograms.values()) {
+            histogram.reset();
+        }
+        overrunCount = 0;
+    }
+}
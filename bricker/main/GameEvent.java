@@ -0,0 +1,29 @@
+package bricker.main;
+
+/**
+ * A change of game state that a game object or collision strategy publishes to the GameEventQueue, for the
+ * game manager to handle at the end of the tick.
+ */
+public enum GameEvent {
+    /**
+     * A brick was removed from the game and the bricks counter.
+     */
+    BRICK_DESTROYED,
+    /**
+     * A falling heart was caught by a paddle, granting an extra life.
+     */
+    HEART_CAUGHT,
+    /**
+     * The main ball fell below the bottom of the window.
+     */
+    BALL_LOST,
+    /**
+     * Short-lived objects fell below the bottom of the window and were retired. Published once per tick,
+     * however many objects left.
+     */
+    LEFT_WORLD,
+    /**
+     * A camera strategy started following the main ball.
+     */
+    CAMERA_STARTED
+}
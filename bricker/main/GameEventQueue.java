@@ -0,0 +1,68 @@
+package bricker.main;
+
+import java.util.Arrays;
+
+/**
+ * The queue of the game events published during a tick.
+ * Publishing appends the event to an array, which only grows when a tick publishes more events than any
+ * tick before it, so a game publishes and drains events without allocating. The queue belongs to the game
+ * thread and is not thread-safe.
+ */
+public class GameEventQueue {
+    /**
+     * Handles the events drained from the queue.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Handles a single event.
+         *
+         * @param event The event.
+         */
+        void handle(GameEvent event);
+    }
+
+    private GameEvent[] events;
+    private int size = 0;
+
+    /**
+     * Constructs a new, empty GameEventQueue instance.
+     *
+     * @param capacity The initial number of events the queue holds before it grows.
+     */
+    GameEventQueue(int capacity) {
+        this.events = new GameEvent[capacity];
+    }
+
+    /**
+     * Appends an event to the queue.
+     *
+     * @param event The event.
+     */
+    public void publish(GameEvent event) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, Math.max(1, size * 2));
+        }
+        events[size++] = event;
+    }
+
+    /**
+     * Hands every queued event to a handler, in the order they were published, and empties the queue.
+     * Events published by the handler are handled in the same drain.
+     *
+     * @param handler The handler of the events.
+     */
+    public void drain(Handler handler) {
+        for (int i = 0; i < size; i++) {
+            handler.handle(events[i]);
+        }
+        size = 0;
+    }
+
+    /**
+     * @return The number of events waiting to be drained.
+     */
+    public int size() {
+        return size;
+    }
+}
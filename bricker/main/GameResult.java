@@ -0,0 +1,19 @@
+package bricker.main;
+
+/**
+ * The result of a Bricker game, as reported to headless callers instead of the "Play again?" dialog.
+ */
+public enum GameResult {
+    /**
+     * The game has not ended yet.
+     */
+    IN_PROGRESS,
+    /**
+     * All bricks were cleared (or the win key was pressed).
+     */
+    WON,
+    /**
+     * The player ran out of lives.
+     */
+    LOST
+}
@@ -0,0 +1,187 @@
+package bricker.main;
+
+import danogl.util.Vector2;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Everything besides the player's input that decides how a Bricker game plays out: the random seed, the
+ * size of the brick grid and of the window, the tick duration, the strategy weights, and the level file.
+ * A recording stores the setup of its game, and a replay checks that it reproduces the same setup.
+ */
+public class GameSetup {
+    private final long seed;
+    private final int numBricksInRow;
+    private final int numRows;
+    private final float windowWidth;
+    private final float windowHeight;
+    private final float tickDuration;
+    private final int[] cumulativeWeights;
+    private final long levelChecksum;
+
+    /**
+     * Constructs a new GameSetup instance.
+     *
+     * @param seed              The seed of the game's random source.
+     * @param numBricksInRow    The number of bricks in a row.
+     * @param numRows           The number of rows of bricks.
+     * @param windowDimensions  The dimensions of the game window.
+     * @param tickDuration      The duration of a simulation tick, in seconds.
+     * @param cumulativeWeights The cumulative strategy weights, by strategy number.
+     * @param levelChecksum     The checksum of the level file, or 0 without one.
+     */
+    GameSetup(long seed, int numBricksInRow, int numRows, Vector2 windowDimensions, float tickDuration,
+              int[] cumulativeWeights, long levelChecksum) {
+        this(seed, numBricksInRow, numRows, windowDimensions.x(), windowDimensions.y(), tickDuration,
+                cumulativeWeights, levelChecksum);
+    }
+
+    /**
+     * Constructs a new GameSetup instance from its stored fields.
+     *
+     * @param seed              The seed of the game's random source.
+     * @param numBricksInRow    The number of bricks in a row.
+     * @param numRows           The number of rows of bricks.
+     * @param windowWidth       The width of the game window.
+     * @param windowHeight      The height of the game window.
+     * @param tickDuration      The duration of a simulation tick, in seconds.
+     * @param cumulativeWeights The cumulative strategy weights, by strategy number.
+     * @param levelChecksum     The checksum of the level file, or 0 without one.
+     */
+    private GameSetup(long seed, int numBricksInRow, int numRows, float windowWidth, float windowHeight,
+                      float tickDuration, int[] cumulativeWeights, long levelChecksum) {
+        this.seed = seed;
+        this.numBricksInRow = numBricksInRow;
+        this.numRows = numRows;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.tickDuration = tickDuration;
+        this.cumulativeWeights = cumulativeWeights.clone();
+        this.levelChecksum = levelChecksum;
+    }
+
+    /**
+     * Reads a setup written by write.
+     *
+     * @param in The stream to read from.
+     * @return The setup.
+     * @throws IOException If the stream can not be read.
+     */
+    static GameSetup read(DataInputStream in) throws IOException {
+        long seed = in.readLong();
+        int numBricksInRow = in.readInt();
+        int numRows = in.readInt();
+        float windowWidth = in.readFloat();
+        float windowHeight = in.readFloat();
+        float tickDuration = in.readFloat();
+        int[] cumulativeWeights = new int[in.readUnsignedByte()];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            cumulativeWeights[i] = in.readInt();
+        }
+        long levelChecksum = in.readLong();
+        return new GameSetup(seed, numBricksInRow, numRows, windowWidth, windowHeight, tickDuration,
+                cumulativeWeights, levelChecksum);
+    }
+
+    /**
+     * Writes the setup.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream can not be written.
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(seed);
+        out.writeInt(numBricksInRow);
+        out.writeInt(numRows);
+        out.writeFloat(windowWidth);
+        out.writeFloat(windowHeight);
+        out.writeFloat(tickDuration);
+        out.writeByte(cumulativeWeights.length);
+        for (int weight : cumulativeWeights) {
+            out.writeInt(weight);
+        }
+        out.writeLong(levelChecksum);
+    }
+
+    /**
+     * @return The seed of the game's random source.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The number of bricks in a row.
+     */
+    public int getNumBricksInRow() {
+        return numBricksInRow;
+    }
+
+    /**
+     * @return The number of rows of bricks.
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * @return The dimensions of the game window.
+     */
+    public Vector2 getWindowDimensions() {
+        return new Vector2(windowWidth, windowHeight);
+    }
+
+    /**
+     * @return The duration of a simulation tick, in seconds.
+     */
+    public float getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * @return The checksum of the level file, or 0 without one.
+     */
+    public long getLevelChecksum() {
+        return levelChecksum;
+    }
+
+    /**
+     * @param other An object.
+     * @return True if the other object is a setup that plays out the same way.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameSetup)) {
+            return false;
+        }
+        GameSetup setup = (GameSetup) other;
+        return seed == setup.seed && numBricksInRow == setup.numBricksInRow && numRows == setup.numRows &&
+                Float.compare(windowWidth, setup.windowWidth) == 0 &&
+                Float.compare(windowHeight, setup.windowHeight) == 0 &&
+                Float.compare(tickDuration, setup.tickDuration) == 0 &&
+                Arrays.equals(cumulativeWeights, setup.cumulativeWeights) &&
+                levelChecksum == setup.levelChecksum;
+    }
+
+    /**
+     * @return A hash code consistent with equals.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(seed) * 31 + Arrays.hashCode(cumulativeWeights);
+    }
+
+    /**
+     * @return The setup in a readable form, for error messages.
+     */
+    @Override
+    public String toString() {
+        return String.format("seed %d, %dx%d bricks, %.0fx%.0f window, %s s ticks, weights %s, level %s",
+                seed, numBricksInRow, numRows, windowWidth, windowHeight, tickDuration,
+                Arrays.toString(cumulativeWeights), levelChecksum == 0 ? "none" :
+                        String.format("%08x", levelChecksum));
+    }
+}
@@ -0,0 +1,64 @@
+package bricker.main;
+
+/**
+ * The outcome of a single simulated Bricker game.
+ */
+public class GameSummary {
+    private final GameResult result;
+    private final int ticks;
+    private final int livesLost;
+    private final long pucksSpawned;
+    private final int bricksLeft;
+
+    /**
+     * Constructs a new GameSummary instance.
+     *
+     * @param result       The result of the game.
+     * @param ticks        The number of fixed ticks the game simulated.
+     * @param livesLost    The number of lives the player lost.
+     * @param pucksSpawned The number of pucks spawned by puck strategies.
+     * @param bricksLeft   The number of bricks left when the game ended.
+     */
+    GameSummary(GameResult result, int ticks, int livesLost, long pucksSpawned, int bricksLeft) {
+        this.result = result;
+        this.ticks = ticks;
+        this.livesLost = livesLost;
+        this.pucksSpawned = pucksSpawned;
+        this.bricksLeft = bricksLeft;
+    }
+
+    /**
+     * @return The result of the game, IN_PROGRESS if it reached the tick limit.
+     */
+    public GameResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return The number of fixed ticks the game simulated.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The number of lives the player lost.
+     */
+    public int getLivesLost() {
+        return livesLost;
+    }
+
+    /**
+     * @return The number of pucks spawned by puck strategies.
+     */
+    public long getPucksSpawned() {
+        return pucksSpawned;
+    }
+
+    /**
+     * @return The number of bricks left when the game ended.
+     */
+    public int getBricksLeft() {
+        return bricksLeft;
+    }
+}
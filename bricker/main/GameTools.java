@@ -1,46 +1,66 @@
 package bricker.main;
 
+import bricker.gameobjects.BrickGrid;
+import bricker.gameobjects.EntityPools;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.SoundReader;
-import danogl.gui.UserInputListener;
+import danogl.gui.Sound;
+import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 
+import java.util.Random;
+
 /**
  * A utility class that encapsulates various tools and resources needed for the game.
- * This includes the game objects collection, window dimensions, input listener, image reader,
- * sound reader, and counters for bricks and lives.
+ * This includes the game objects collection, window dimensions, key input, the shared asset cache,
+ * the pools of short-lived game objects, the game's seeded random source, the frame profiler, the audio
+ * mixer, the queue of game events, and counters for bricks and lives.
+ * In headless mode the asset cache has no readers, and images and sounds are replaced by null stand-ins,
+ * which danogl treats as "not rendered" and the game objects treat as "silent".
  */
 public class GameTools {
 
     private final GameObjectCollection gameObjects;
     private final Vector2 windowDimensions;
-    private final UserInputListener userInputListener;
-    private final ImageReader imageReader;
-    private final SoundReader soundReader;
+    private final KeyInput keyInput;
+    private final AssetCache assetCache;
     private final Counter brickCounter;
+    private final BrickGrid brickGrid;
+    private final EntityPools entityPools;
+    private final Random random;
+    private final FrameProfiler frameProfiler;
+    private final AudioMixer audioMixer;
+    private final GameEventQueue eventQueue;
 
     /**
      * Constructor for initializing the GameTools with required parameters.
      *
      * @param gameObjects The collection of game objects.
      * @param windowDimensions The dimensions of the game window.
-     * @param userInputListener The listener for user input.
-     * @param imageReader The reader for loading images.
-     * @param soundReader The reader for loading sounds.
+     * @param keyInput The source of keyboard state.
+     * @param assetCache The cache of the game's images and sounds.
      * @param brickCounter The counter for tracking the number of bricks.
+     * @param brickGrid The grid index of the bricks.
+     * @param random The single random source of the game, so a seed reproduces a whole game.
+     * @param frameProfiler The profiler timing the frames and collision strategies of the game.
+     * @param audioMixer The mixer playing the game's sounds, or null in headless mode.
      */
     GameTools(GameObjectCollection gameObjects, Vector2 windowDimensions,
-              UserInputListener userInputListener, ImageReader imageReader,
-              SoundReader soundReader, Counter brickCounter) {
+              KeyInput keyInput, AssetCache assetCache,
+              Counter brickCounter, BrickGrid brickGrid, Random random, FrameProfiler frameProfiler,
+              AudioMixer audioMixer) {
 
         this.gameObjects = gameObjects;
         this.windowDimensions = windowDimensions;
-        this.userInputListener = userInputListener;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
+        this.keyInput = keyInput;
+        this.assetCache = assetCache;
         this.brickCounter = brickCounter;
+        this.brickGrid = brickGrid;
+        this.random = random;
+        this.frameProfiler = frameProfiler;
+        this.audioMixer = audioMixer;
+        this.eventQueue = new GameEventQueue(Constants.EVENT_QUEUE_CAPACITY);
+        this.entityPools = new EntityPools(this);
     }
 
     /**
@@ -58,27 +78,80 @@ public class GameTools {
     }
 
     /**
-     * @return The listener for user input.
+     * @return The source of keyboard state.
+     */
+    public KeyInput getKeyInput() {
+        return keyInput;
+    }
+
+    /**
+     * @return True if the game runs without a window, images and sounds.
      */
-    public UserInputListener getUserInputListener() {
-        return userInputListener;
+    public boolean isHeadless() {
+        return assetCache.isHeadless();
     }
 
     /**
-     * @return The reader for loading images.
+     * Returns the shared image of a path from the asset cache, or a null renderable in headless mode.
+     *
+     * @param path The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the top-left pixel color should be treated as transparent.
+     * @return The renderable of the image, or null in headless mode.
      */
-    public ImageReader getImageReader() {
-        return imageReader;
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        return assetCache.readImage(path, isTopLeftPixelTransparent);
     }
 
     /**
-     * @return The reader for loading sounds.
+     * Returns the shared sound of a path from the asset cache, or a null sound in headless mode.
+     *
+     * @param path The path of the sound file.
+     * @return The sound, or null in headless mode.
      */
-    public SoundReader getSoundReader() { return soundReader; }
+    public Sound readSound(String path) {
+        return assetCache.readSound(path);
+    }
+
+    /**
+     * @return The cache of the game's images and sounds.
+     */
+    public AssetCache getAssetCache() {
+        return assetCache;
+    }
 
     /**
      * @return The counter for tracking the number of bricks.
      */
     public Counter getBrickCounter() { return brickCounter; }
 
+    /**
+     * @return The grid index of the bricks.
+     */
+    public BrickGrid getBrickGrid() { return brickGrid; }
+
+    /**
+     * @return The pools of pucks, falling hearts and extra paddles.
+     */
+    public EntityPools getEntityPools() { return entityPools; }
+
+    /**
+     * @return The single random source of the game.
+     */
+    public Random getRandom() { return random; }
+
+    /**
+     * @return The profiler timing the frames and collision strategies of the game.
+     */
+    public FrameProfiler getFrameProfiler() { return frameProfiler; }
+
+    /**
+     * @return The mixer playing the game's sounds off the game thread, or null in headless mode.
+     */
+    public AudioMixer getAudioMixer() { return audioMixer; }
+
+    /**
+     * @return The queue of the game events published during the current tick.
+     */
+    public GameEventQueue getEventQueue() { return eventQueue; }
+
 }
@@ -0,0 +1,140 @@
+package bricker.main;
+
+import java.awt.event.KeyEvent;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the per-frame key state of a game into a compact binary file, for replay with InputReplay.
+ * The key state read by the game (left, right and the win key) is sampled once at the start of each frame,
+ * so the game sees exactly what is recorded. The frame time is recorded exactly, as the bits of the float
+ * the game was stepped with, so a replay steps the game with the very same times.
+ * <p>
+ * File format: a header (magic, version, and the GameSetup of the game) followed by one entry per frame.
+ * Each entry is a varint holding the zigzag-encoded change of the frame time's float bits (as given by
+ * Float.floatToIntBits), shifted left by one, with the low bit set when the key state changed; in that case
+ * a byte with the new key state follows. Frames of similar length take a few bytes.
+ */
+public class InputRecorder implements KeyInput {
+    /**
+     * The magic number at the start of a recording ("BRKR").
+     */
+    static final int MAGIC = 0x42524b52;
+    /**
+     * The version of the recording format.
+     */
+    static final int VERSION = 3;
+    /**
+     * The keys whose state is recorded; bit i of a key state is the state of RECORDED_KEYS[i].
+     */
+    static final int[] RECORDED_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MORE = 0x80;
+
+    private final KeyInput source;
+    private final DataOutputStream out;
+    private int keyState = 0;
+    private int prevTimeBits = 0;
+
+    /**
+     * Constructs a new InputRecorder instance and writes the recording header.
+     *
+     * @param source The live key input to record.
+     * @param path   The file to record to.
+     * @param setup  The setup of the recorded game.
+     */
+    public InputRecorder(KeyInput source, Path path, GameSetup setup) {
+        this.source = source;
+        try {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            setup.write(out);
+            out.flush();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Samples the recorded keys for the new frame and writes the frame entry.
+     * The stream is flushed whenever the key state changes, so an interrupted session keeps all but its
+     * last few frames.
+     *
+     * @param deltaTime The time elapsed since the last frame.
+     */
+    @Override
+    public void beginFrame(float deltaTime) {
+        source.beginFrame(deltaTime);
+        int newKeyState = 0;
+        for (int i = 0; i < RECORDED_KEYS.length; i++) {
+            if (source.isKeyPressed(RECORDED_KEYS[i])) {
+                newKeyState |= 1 << i;
+            }
+        }
+        int timeBits = Float.floatToIntBits(deltaTime);
+        long delta = (long) timeBits - prevTimeBits;
+        long zigzag = (delta << 1) ^ (delta >> 63);
+        boolean keysChanged = newKeyState != keyState;
+        prevTimeBits = timeBits;
+        keyState = newKeyState;
+        try {
+            writeVarint((zigzag << 1) | (keysChanged ? 1 : 0));
+            if (keysChanged) {
+                out.writeByte(newKeyState);
+                out.flush();
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether a key is pressed. Recorded keys report the state sampled at the start of the frame.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key is pressed; false otherwise.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        for (int i = 0; i < RECORDED_KEYS.length; i++) {
+            if (RECORDED_KEYS[i] == keyCode) {
+                return (keyState & (1 << i)) != 0;
+            }
+        }
+        return source.isKeyPressed(keyCode);
+    }
+
+    /**
+     * Flushes and closes the recording file.
+     */
+    public void close() {
+        try {
+            out.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes an unsigned variable-length integer, seven bits per byte.
+     *
+     * @param value The value to write.
+     * @throws IOException If the file can not be written.
+     */
+    private void writeVarint(long value) throws IOException {
+        while ((value & ~(VARINT_MORE - 1)) != 0) {
+            out.writeByte((int) (value & (VARINT_MORE - 1)) | VARINT_MORE);
+            value >>>= VARINT_BITS;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,149 @@
+package bricker.main;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A key input that plays back a recording made by InputRecorder, one frame at a time.
+ * The caller builds a headless game from the recorded GameSetup, checks that the game reproduces it
+ * (checkSetup), then advances the replay with advance() and steps the game with the recorded frame time, so
+ * the game reproduces the recorded session, as fast as the CPU allows.
+ */
+public class InputReplay implements KeyInput {
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MORE = 0x80;
+
+    private final DataInputStream in;
+    private final GameSetup setup;
+    private int keyState = 0;
+    private int timeBits = 0;
+    private boolean finished = false;
+
+    /**
+     * Constructs a new InputReplay instance and reads the recording header.
+     *
+     * @param path The recording file.
+     * @throws IOException If the file can not be read or is not a recording.
+     */
+    public InputReplay(Path path) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        if (in.readInt() != InputRecorder.MAGIC || in.readUnsignedByte() != InputRecorder.VERSION) {
+            in.close();
+            throw new IOException("Not a Bricker input recording: " + path);
+        }
+        this.setup = GameSetup.read(in);
+    }
+
+    /**
+     * Reads the next recorded frame.
+     *
+     * @return True if a frame was read; false if the recording has ended.
+     */
+    public boolean advance() {
+        if (finished) {
+            return false;
+        }
+        try {
+            long entry = readVarint();
+            long zigzag = entry >>> 1;
+            timeBits += (int) ((zigzag >>> 1) ^ -(zigzag & 1));
+            if ((entry & 1) != 0) {
+                keyState = in.readUnsignedByte();
+            }
+            return true;
+        }
+        catch (EOFException e) {
+            finished = true;
+            close();
+            return false;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The recorded time of the current frame, in seconds, exactly as the recorded game was stepped.
+     */
+    public float getFrameDeltaTime() {
+        return Float.intBitsToFloat(timeBits);
+    }
+
+    /**
+     * @return True once all recorded frames were read.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Checks whether a key was pressed in the current frame of the recording.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key was recorded as pressed; false otherwise, including keys that are not recorded.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        for (int i = 0; i < InputRecorder.RECORDED_KEYS.length; i++) {
+            if (InputRecorder.RECORDED_KEYS[i] == keyCode) {
+                return (keyState & (1 << i)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The setup of the recorded game.
+     */
+    public GameSetup getSetup() {
+        return setup;
+    }
+
+    /**
+     * Checks that a game replaying the recording has the recorded setup, so it plays out the same way.
+     *
+     * @param replayingSetup The setup of the replaying game.
+     * @throws IOException If the setups differ, e.g. in the window size or the strategy weights.
+     */
+    public void checkSetup(GameSetup replayingSetup) throws IOException {
+        if (!setup.equals(replayingSetup)) {
+            throw new IOException("The recording was made with " + setup + ", but is replayed with " +
+                    replayingSetup);
+        }
+    }
+
+    /**
+     * Closes the recording file.
+     */
+    public void close() {
+        try {
+            in.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an unsigned variable-length integer, seven bits per byte.
+     *
+     * @return The value read.
+     * @throws IOException If the file can not be read, or EOFException at the end of the recording.
+     */
+    private long readVarint() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & (VARINT_MORE - 1)) << shift;
+            shift += VARINT_BITS;
+        } while ((b & VARINT_MORE) != 0);
+        return value;
+    }
+}
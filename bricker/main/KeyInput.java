@@ -0,0 +1,30 @@
+package bricker.main;
+
+/**
+ * A minimal source of keyboard state used by the game objects.
+ * In a windowed game this wraps danogl's UserInputListener, while in headless mode it can be any
+ * scripted stand-in, so the game never depends on a real window for input.
+ */
+@FunctionalInterface
+public interface KeyInput {
+    /**
+     * A key input that never reports a pressed key.
+     */
+    KeyInput NONE = keyCode -> false;
+
+    /**
+     * Checks whether a key is currently pressed.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key is pressed; false otherwise.
+     */
+    boolean isKeyPressed(int keyCode);
+
+    /**
+     * Called by the game manager at the start of every frame, before any key is read.
+     *
+     * @param deltaTime The time elapsed since the last frame.
+     */
+    default void beginFrame(float deltaTime) {
+    }
+}
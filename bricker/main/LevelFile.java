@@ -0,0 +1,203 @@
+package bricker.main;
+
+import bricker.gameobjects.BrickGrid;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.CRC32;
+
+/**
+ * A Bricker level in a compact binary file, read through a memory mapping.
+ * The level is streamed into a BrickGrid row by row straight from the mapped pages, so loading never holds a
+ * heap copy of the file, and the operating system pages it in (and out) as needed. Only the bricks of the
+ * rows inside the window become game objects, as with any BrickGrid.
+ * <p>
+ * File format: a header (magic, version, bricks in a row, rows, flags) followed by one byte per cell, row by
+ * row, holding the cell's strategy number (one of the *_STRAT constants) or EMPTY_CELL. If the HEALTH flag
+ * is set, a second array of one byte per cell follows, holding the number of hits each brick takes.
+ * Usage: LevelFile &lt;level file&gt; &lt;bricks in a row&gt; &lt;rows&gt; [seed] writes a random level.
+ */
+public class LevelFile {
+    /**
+     * The magic number at the start of a level file ("BRKL").
+     */
+    static final int MAGIC = 0x42524b4c;
+    /**
+     * The version of the level format.
+     */
+    static final int VERSION = 1;
+    /**
+     * The flag set when the file holds the health of each brick.
+     */
+    static final int HEALTH = 1;
+    /**
+     * The strategy byte of a cell without a brick.
+     */
+    public static final int EMPTY_CELL = 0xff;
+
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Integer.BYTES + Integer.BYTES + 1;
+    private static final int PATH_ARG = 0;
+    private static final int BRICKS_IN_ROW_ARG = 1;
+    private static final int ROWS_ARG = 2;
+    private static final int SEED_ARG = 3;
+
+    private final MappedByteBuffer buffer;
+    private final int numBricksInRow;
+    private final int numRows;
+    private final boolean hasHealth;
+    private final long checksum;
+
+    /**
+     * Constructs a new LevelFile instance, mapping the file, reading its header and checking that every cell
+     * holds a known strategy number or EMPTY_CELL.
+     *
+     * @param path The level file.
+     * @throws IOException If the file can not be read, is not a level, or is truncated or corrupt.
+     */
+    public LevelFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt() != MAGIC ||
+                (buffer.get() & 0xff) != VERSION) {
+            throw new IOException("Not a Bricker level: " + path);
+        }
+        this.numBricksInRow = buffer.getInt();
+        this.numRows = buffer.getInt();
+        this.hasHealth = (buffer.get() & HEALTH) != 0;
+        long numCells = (long) numBricksInRow * numRows;
+        if (numBricksInRow <= 0 || numRows <= 0 ||
+                buffer.capacity() != HEADER_BYTES + numCells * (hasHealth ? 2 : 1)) {
+            throw new IOException("Truncated or corrupt Bricker level: " + path);
+        }
+        for (int index = 0; index < numCells; index++) {
+            int stratNum = buffer.get(HEADER_BYTES + index) & 0xff;
+            if (stratNum != EMPTY_CELL && stratNum >= Constants.STRATEGY_NAMES.length) {
+                throw new IOException("Truncated or corrupt Bricker level: " + path);
+            }
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer cells = buffer.duplicate();
+        cells.position(HEADER_BYTES);
+        crc.update(cells);
+        this.checksum = crc.getValue();
+    }
+
+    /**
+     * @return The number of bricks in a row of the level.
+     */
+    public int getNumBricksInRow() {
+        return numBricksInRow;
+    }
+
+    /**
+     * @return The number of rows of bricks of the level.
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * @return True if the level sets the number of hits each brick takes.
+     */
+    public boolean hasHealth() {
+        return hasHealth;
+    }
+
+    /**
+     * @return The CRC-32 of the level's cells, which tells levels of the same size apart.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Streams the level into an empty grid of the level's size, row by row.
+     *
+     * @param brickGrid   The grid to fill.
+     * @param strategyIds Maps a strategy number of the file to the strategy id stored in the grid.
+     * @return The number of bricks in the level.
+     */
+    public int load(BrickGrid brickGrid, IntUnaryOperator strategyIds) {
+        int numCells = numBricksInRow * numRows;
+        int numBricks = 0;
+        for (int row = 0; row < numRows; row++) {
+            int rowStart = row * numBricksInRow;
+            for (int index = rowStart; index < rowStart + numBricksInRow; index++) {
+                int stratNum = buffer.get(HEADER_BYTES + index) & 0xff;
+                if (stratNum == EMPTY_CELL) {
+                    continue;
+                }
+                brickGrid.addBrick(index, strategyIds.applyAsInt(stratNum));
+                if (hasHealth) {
+                    brickGrid.setHealth(index, buffer.get(HEADER_BYTES + numCells + index) & 0xff);
+                }
+                numBricks++;
+            }
+        }
+        return numBricks;
+    }
+
+    /**
+     * Writes a level file, streaming the cells row by row.
+     *
+     * @param path           The file to write.
+     * @param numBricksInRow The number of bricks in a row.
+     * @param numRows        The number of rows of bricks.
+     * @param strategyOf     Maps a cell index to its strategy number, or EMPTY_CELL.
+     * @param healthOf       Maps a cell index to the number of hits its brick takes, or null for one hit.
+     * @throws IOException If the file can not be written.
+     */
+    public static void write(Path path, int numBricksInRow, int numRows, IntUnaryOperator strategyOf,
+                             IntUnaryOperator healthOf) throws IOException {
+        int numCells = numBricksInRow * numRows;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(numBricksInRow);
+            out.writeInt(numRows);
+            out.writeByte(healthOf == null ? 0 : HEALTH);
+            for (int index = 0; index < numCells; index++) {
+                out.writeByte(strategyOf.applyAsInt(index));
+            }
+            if (healthOf != null) {
+                for (int index = 0; index < numCells; index++) {
+                    out.writeByte(healthOf.applyAsInt(index));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a random level, with the strategies drawn by the default strategy weights.
+     *
+     * @param args The level file, the number of bricks in a row, the number of rows, and an optional seed.
+     * @throws IOException If the file can not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Random random = args.length > SEED_ARG ? new Random(Long.parseLong(args[SEED_ARG])) : new Random();
+        int totalWeight = Arrays.stream(Constants.DEFAULT_STRATEGY_WEIGHTS).sum();
+        write(Paths.get(args[PATH_ARG]), Integer.parseInt(args[BRICKS_IN_ROW_ARG]),
+                Integer.parseInt(args[ROWS_ARG]), index -> {
+                    int pick = random.nextInt(totalWeight);
+                    int stratNum = 0;
+                    while (pick >= Constants.DEFAULT_STRATEGY_WEIGHTS[stratNum]) {
+                        pick -= Constants.DEFAULT_STRATEGY_WEIGHTS[stratNum];
+                        stratNum++;
+                    }
+                    return stratNum;
+                }, null);
+    }
+}
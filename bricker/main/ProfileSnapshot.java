@@ -0,0 +1,206 @@
+package bricker.main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A point-in-time copy of the durations recorded by a FrameProfiler: count, p50, p99 and max of every
+ * frame phase and every collision strategy class, and the counters and startup timing of the asset cache.
+ */
+public class ProfileSnapshot {
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_KIB = 1024;
+
+    private final long overrunCount;
+    private final List<Entry> entries = new ArrayList<>();
+    private boolean hasAssets = false;
+    private int assetHits = 0;
+    private int assetMisses = 0;
+    private long assetBytes = 0;
+    private long assetsDecodedNanos = 0;
+    private long assetWaitNanos = 0;
+    private long assetPreloadNanos = 0;
+
+    /**
+     * The recorded durations of a single phase or strategy class.
+     */
+    public static class Entry {
+        private final String name;
+        private final long count;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        /**
+         * Constructs a new Entry instance from a histogram.
+         *
+         * @param name      The name of the phase or strategy class.
+         * @param histogram The recorded durations.
+         */
+        Entry(String name, LatencyHistogram histogram) {
+            this.name = name;
+            this.count = histogram.getCount();
+            this.p50 = histogram.getPercentile(MEDIAN);
+            this.p99 = histogram.getPercentile(P99);
+            this.max = histogram.getMax();
+        }
+
+        /**
+         * @return The name of the phase or strategy class.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The number of recorded durations.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The median duration, in nanoseconds.
+         */
+        public long getP50() {
+            return p50;
+        }
+
+        /**
+         * @return The 99th percentile duration, in nanoseconds.
+         */
+        public long getP99() {
+            return p99;
+        }
+
+        /**
+         * @return The longest duration, in nanoseconds.
+         */
+        public long getMax() {
+            return max;
+        }
+    }
+
+    /**
+     * Constructs a new, empty ProfileSnapshot instance.
+     *
+     * @param overrunCount The number of frames that exceeded the frame budget.
+     */
+    ProfileSnapshot(long overrunCount) {
+        this.overrunCount = overrunCount;
+    }
+
+    /**
+     * Adds the durations of a phase or strategy class to the snapshot.
+     *
+     * @param name      The name of the phase or strategy class.
+     * @param histogram The recorded durations.
+     */
+    void add(String name, LatencyHistogram histogram) {
+        entries.add(new Entry(name, histogram));
+    }
+
+    /**
+     * Copies the counters and startup timing of an asset cache into the snapshot.
+     *
+     * @param assetCache The preloaded asset cache.
+     */
+    void setAssets(AssetCache assetCache) {
+        hasAssets = true;
+        assetHits = assetCache.getHits();
+        assetMisses = assetCache.getMisses();
+        assetBytes = assetCache.getBytesResident();
+        assetsDecodedNanos = assetCache.getDecodedNanos();
+        assetWaitNanos = assetCache.getWaitNanos();
+        assetPreloadNanos = assetCache.getPreloadNanos();
+    }
+
+    /**
+     * @return True if the snapshot holds the counters of an asset cache.
+     */
+    public boolean hasAssets() {
+        return hasAssets;
+    }
+
+    /**
+     * @return The number of asset requests served from the cache.
+     */
+    public int getAssetHits() {
+        return assetHits;
+    }
+
+    /**
+     * @return The number of asset requests that had to read an asset.
+     */
+    public int getAssetMisses() {
+        return assetMisses;
+    }
+
+    /**
+     * @return The estimated number of bytes held by the cached assets.
+     */
+    public long getAssetBytes() {
+        return assetBytes;
+    }
+
+    /**
+     * @return The nanoseconds from startup until the preloader decoded all images, or 0 without a preloader.
+     */
+    public long getAssetsDecodedNanos() {
+        return assetsDecodedNanos;
+    }
+
+    /**
+     * @return The nanoseconds the first game waited for the preloader.
+     */
+    public long getAssetWaitNanos() {
+        return assetWaitNanos;
+    }
+
+    /**
+     * @return The nanoseconds the first game took to cache every asset, including the wait.
+     */
+    public long getAssetPreloadNanos() {
+        return assetPreloadNanos;
+    }
+
+    /**
+     * @return The number of frames that exceeded the frame budget.
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * @return The entries of the snapshot: the frame phases first, then the strategy classes.
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * @return The snapshot as a table, with durations in microseconds.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-24s %10s %10s %10s %10s%n", "phase/strategy", "count", "p50 us",
+                "p99 us", "max us"));
+        for (Entry entry : entries) {
+            builder.append(String.format("%-24s %10d %10.1f %10.1f %10.1f%n", entry.name, entry.count,
+                    entry.p50 / NANOS_PER_MICRO, entry.p99 / NANOS_PER_MICRO, entry.max / NANOS_PER_MICRO));
+        }
+        builder.append(String.format("frames over budget: %d%n", overrunCount));
+        if (hasAssets) {
+            builder.append(String.format("assets: %d hits, %d misses, %d KiB resident; decoded %.1f ms after "
+                    + "startup, waited %.1f ms, cached in %.1f ms%n", assetHits, assetMisses,
+                    assetBytes / BYTES_PER_KIB, assetsDecodedNanos / NANOS_PER_MILLI,
+                    assetWaitNanos / NANOS_PER_MILLI, assetPreloadNanos / NANOS_PER_MILLI));
+        }
+        return builder.toString();
+    }
+}
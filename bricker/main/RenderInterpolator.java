@@ -0,0 +1,129 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * Draws the moving objects of the Bricker game between two simulation ticks.
+ * Before the last tick of a frame, the positions of the objects in the default layer are captured. On every
+ * frame, including frames that run no tick, each object is moved to a point between its captured and
+ * simulated positions, by how far the frame's time is into the next tick, and danogl renders it there.
+ * Before the next frame the simulated positions are restored, so the interpolation never affects the
+ * simulation. The positions are kept in arrays that grow with the layer and are reused by every tick.
+ */
+public class RenderInterpolator {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final GameObjectCollection gameObjects;
+    private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] simulatedX = new float[INITIAL_CAPACITY];
+    private float[] simulatedY = new float[INITIAL_CAPACITY];
+    private int count = 0;
+    private boolean captured = false;
+    private boolean simulatedRead = false;
+    private boolean interpolated = false;
+
+    /**
+     * Constructs a new RenderInterpolator instance.
+     *
+     * @param gameObjects The collection of game objects.
+     */
+    RenderInterpolator(GameObjectCollection gameObjects) {
+        this.gameObjects = gameObjects;
+    }
+
+    /**
+     * Captures the positions of the moving objects before the last tick of a frame.
+     */
+    void capture() {
+        count = 0;
+        for (GameObject object : gameObjects.objectsInLayer(Layer.DEFAULT)) {
+            if (count == objects.length) {
+                grow();
+            }
+            Vector2 topLeft = object.getTopLeftCorner();
+            objects[count] = object;
+            previousX[count] = topLeft.x();
+            previousY[count] = topLeft.y();
+            count++;
+        }
+        Arrays.fill(objects, count, objects.length, null);
+        captured = true;
+        simulatedRead = false;
+    }
+
+    /**
+     * Moves the captured objects between their captured and simulated positions, for rendering.
+     * Objects that moved further than INTERPOLATION_MAX_DISTANCE in the tick were placed rather than moved
+     * (e.g. a ball reset to the center), and are left at their simulated positions.
+     *
+     * @param alpha How far the frame's time is into the next tick, from 0 to 1.
+     */
+    void interpolate(float alpha) {
+        if (!captured) {
+            return;
+        }
+        if (!simulatedRead) {
+            // the objects are at their simulated positions until they are first interpolated
+            for (int i = 0; i < count; i++) {
+                Vector2 simulated = objects[i].getTopLeftCorner();
+                simulatedX[i] = simulated.x();
+                simulatedY[i] = simulated.y();
+            }
+            simulatedRead = true;
+        }
+        for (int i = 0; i < count; i++) {
+            float movedX = simulatedX[i] - previousX[i];
+            float movedY = simulatedY[i] - previousY[i];
+            if (movedX * movedX + movedY * movedY <=
+                    Constants.INTERPOLATION_MAX_DISTANCE * Constants.INTERPOLATION_MAX_DISTANCE) {
+                // render one tick behind the simulation, so an interpolated position is never a guess
+                objects[i].setTopLeftCorner(new Vector2(previousX[i] + movedX * alpha,
+                        previousY[i] + movedY * alpha));
+            }
+        }
+        interpolated = true;
+    }
+
+    /**
+     * Moves the interpolated objects back to their simulated positions, before the next frame's ticks.
+     */
+    void restore() {
+        if (!interpolated) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            objects[i].setTopLeftCorner(new Vector2(simulatedX[i], simulatedY[i]));
+        }
+        interpolated = false;
+    }
+
+    /**
+     * Forgets the captured positions, e.g. when a new game starts, so nothing is interpolated until the next
+     * capture.
+     */
+    void clear() {
+        restore();
+        Arrays.fill(objects, 0, count, null);
+        count = 0;
+        captured = false;
+    }
+
+    /**
+     * Doubles the capacity of the position arrays.
+     */
+    private void grow() {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        simulatedX = Arrays.copyOf(simulatedX, capacity);
+        simulatedY = Arrays.copyOf(simulatedY, capacity);
+    }
+}
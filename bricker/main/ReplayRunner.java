@@ -0,0 +1,46 @@
+package bricker.main;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Replays a recorded Bricker session in a headless game, as fast as possible, for profiling.
+ * Usage: ReplayRunner &lt;recording file&gt;. Sessions are recorded by running the game with
+ * -Dbricker.record=&lt;file prefix&gt;. The replay must run with the recording's tick rate, strategy weights
+ * and level, or it is refused.
+ */
+public class ReplayRunner {
+    private static final float NANOS_PER_SECOND = 1_000_000_000f;
+
+    private ReplayRunner() {
+    }
+
+    /**
+     * Replays a recording and prints the result of the game and the replay speed.
+     *
+     * @param args The path of the recording file.
+     * @throws IOException If the recording can not be read, or the replay's setup differs from it.
+     */
+    public static void main(String[] args) throws IOException {
+        InputReplay replay = new InputReplay(Paths.get(args[0]));
+        GameSetup setup = replay.getSetup();
+        BrickerGameManager game = new BrickerGameManager(Constants.WINDOW_TITLE, setup.getWindowDimensions(),
+                setup.getNumBricksInRow(), setup.getNumRows(), setup.getSeed());
+        // the tick rate, the strategy weights and the level come from system properties, as when recording
+        replay.checkSetup(game.getSetup());
+        game.initializeHeadless(replay);
+
+        long start = System.nanoTime();
+        float simulatedTime = 0;
+        GameResult result = GameResult.IN_PROGRESS;
+        while (result == GameResult.IN_PROGRESS && replay.advance()) {
+            simulatedTime += replay.getFrameDeltaTime();
+            result = game.step(replay.getFrameDeltaTime());
+        }
+        replay.close();
+        float wallTime = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        System.out.printf("%s after %d ticks: %.1fs of play replayed in %.3fs (%.0fx real time)%n",
+                result, game.getTickCount(), simulatedTime, wallTime, simulatedTime / wallTime);
+    }
+}
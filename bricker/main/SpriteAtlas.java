@@ -0,0 +1,154 @@
+package bricker.main;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A single texture packing the small images of the Bricker game, handing out sub-region renderables.
+ * Every sprite is drawn from the same image, so rendering does not switch between images, and Java2D keeps
+ * one accelerated copy of the atlas instead of one per sprite. Images are packed on shelves, tallest first,
+ * with a transparent pixel of padding around each, so filtering never bleeds a neighbor into a sprite.
+ */
+public class SpriteAtlas {
+    private static final int PADDING = 1;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final BufferedImage atlas;
+    private final Renderable[] regions;
+
+    /**
+     * Constructs a new SpriteAtlas instance, packing the images.
+     *
+     * @param images   The images to pack.
+     * @param maxWidth The width of the atlas, unless an image is wider.
+     */
+    public SpriteAtlas(Image[] images, int maxWidth) {
+        Integer[] order = new Integer[images.length];
+        int width = maxWidth;
+        for (int i = 0; i < images.length; i++) {
+            order[i] = i;
+            width = Math.max(width, images[i].getWidth(null) + 2 * PADDING);
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> images[i].getHeight(null)).reversed());
+
+        // place the images on shelves, left to right, starting a new shelf when a row is full
+        int[] xs = new int[images.length];
+        int[] ys = new int[images.length];
+        int x = 0;
+        int shelfTop = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int w = images[i].getWidth(null) + 2 * PADDING;
+            int h = images[i].getHeight(null) + 2 * PADDING;
+            if (x + w > width) {
+                x = 0;
+                shelfTop += shelfHeight;
+                shelfHeight = 0;
+            }
+            xs[i] = x + PADDING;
+            ys[i] = shelfTop + PADDING;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+
+        this.atlas = new BufferedImage(width, Math.max(1, shelfTop + shelfHeight), BufferedImage.TYPE_INT_ARGB);
+        this.regions = new Renderable[images.length];
+        Graphics2D graphics = atlas.createGraphics();
+        for (int i = 0; i < images.length; i++) {
+            graphics.drawImage(images[i], xs[i], ys[i], null);
+            regions[i] = new Region(atlas, xs[i], ys[i], images[i].getWidth(null), images[i].getHeight(null));
+        }
+        graphics.dispose();
+    }
+
+    /**
+     * @param index The index of an image passed to the constructor.
+     * @return The renderable of the image's region of the atlas.
+     */
+    public Renderable getRegion(int index) {
+        return regions[index];
+    }
+
+    /**
+     * @return The number of bytes held by the atlas texture.
+     */
+    public long getBytes() {
+        return (long) atlas.getWidth() * atlas.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * A renderable drawing a sub-region of the atlas.
+     */
+    private static class Region implements Renderable {
+        private final BufferedImage atlas;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        /**
+         * @param atlas  The atlas texture.
+         * @param x      The left of the region in the atlas.
+         * @param y      The top of the region in the atlas.
+         * @param width  The width of the region.
+         * @param height The height of the region.
+         */
+        Region(BufferedImage atlas, int x, int y, int width, int height) {
+            this.atlas = atlas;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Draws the region scaled into a rectangle, rotated about its center and flipped as requested.
+         *
+         * @param graphics                The graphics to draw with.
+         * @param topLeftCorner           The top-left corner of the rectangle.
+         * @param dimensions              The width and height of the rectangle.
+         * @param degreesCounterClockwise The rotation of the region.
+         * @param isFlippedHorizontally   Whether the region is mirrored left to right.
+         * @param isFlippedVertically     Whether the region is mirrored top to bottom.
+         * @param opaqueness              The opaqueness of the region, from 0 to 1.
+         */
+        @Override
+        public void render(Graphics2D graphics, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            Composite oldComposite = graphics.getComposite();
+            if (opaqueness < 1) {
+                graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+            }
+            if (degreesCounterClockwise == 0 && !isFlippedHorizontally && !isFlippedVertically) {
+                // the common case: a plain blit from the atlas
+                int left = Math.round(topLeftCorner.x());
+                int top = Math.round(topLeftCorner.y());
+                graphics.drawImage(atlas, left, top, left + Math.round(dimensions.x()),
+                        top + Math.round(dimensions.y()), x, y, x + width, y + height, null);
+            }
+            else {
+                AffineTransform oldTransform = graphics.getTransform();
+                graphics.translate(topLeftCorner.x() + dimensions.x() / 2,
+                        topLeftCorner.y() + dimensions.y() / 2);
+                graphics.rotate(-Math.toRadians(degreesCounterClockwise));
+                graphics.scale(isFlippedHorizontally ? -1 : 1, isFlippedVertically ? -1 : 1);
+                int halfWidth = Math.round(dimensions.x() / 2);
+                int halfHeight = Math.round(dimensions.y() / 2);
+                graphics.drawImage(atlas, -halfWidth, -halfHeight, halfWidth, halfHeight,
+                        x, y, x + width, y + height, null);
+                graphics.setTransform(oldTransform);
+            }
+            graphics.setComposite(oldComposite);
+        }
+    }
+}
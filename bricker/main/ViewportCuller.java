@@ -0,0 +1,84 @@
+package bricker.main;
+
+import bricker.gameobjects.BrickGrid;
+import bricker.gameobjects.EntityBudget;
+import bricker.gameobjects.EntityKind;
+import bricker.gameobjects.Retirable;
+import danogl.gui.rendering.Camera;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Skips drawing the objects outside the camera's view while a camera follows the ball.
+ * After the last tick of a frame, the short-lived objects outside the view lose their renderables, so danogl
+ * does not draw them, and the brick grid hides the rows of bricks outside the view. The short-lived objects
+ * are walked through the EntityBudget's live lists, which are capped, instead of the whole default layer;
+ * the ball, which the camera follows, and the paddle are always drawn. Before the next tick the renderables
+ * are restored, so culling never affects the simulation or the pools. Without a camera nothing is culled.
+ */
+public class ViewportCuller {
+    private static final EntityKind[] CULLED_KINDS =
+            {EntityKind.PUCK, EntityKind.FALLING_HEART, EntityKind.EXTRA_PADDLE};
+
+    private final EntityBudget budget;
+    private final BrickGrid brickGrid;
+    private final List<Retirable> culledObjects = new ArrayList<>();
+    private final List<Renderable> culledRenderables = new ArrayList<>();
+
+    /**
+     * Constructs a new ViewportCuller instance.
+     *
+     * @param budget    The budget listing the live short-lived objects.
+     * @param brickGrid The grid of the bricks.
+     */
+    ViewportCuller(EntityBudget budget, BrickGrid brickGrid) {
+        this.budget = budget;
+        this.brickGrid = brickGrid;
+    }
+
+    /**
+     * Culls the objects outside a camera's view for rendering, or draws all bricks if there is no camera.
+     *
+     * @param camera The active camera, or null.
+     */
+    void cull(Camera camera) {
+        if (camera == null) {
+            brickGrid.drawAllRows();
+            return;
+        }
+        Vector2 viewTopLeft = camera.getTopLeftCorner();
+        Vector2 viewDimensions = camera.getDimensions();
+        float viewLeft = viewTopLeft.x();
+        float viewTop = viewTopLeft.y();
+        float viewRight = viewLeft + viewDimensions.x();
+        float viewBottom = viewTop + viewDimensions.y();
+        brickGrid.cullRows(viewTop, viewBottom);
+        for (EntityKind kind : CULLED_KINDS) {
+            for (Retirable entity : budget.getLive(kind)) {
+                Vector2 topLeft = entity.getTopLeftCorner();
+                Vector2 dimensions = entity.getDimensions();
+                Renderable renderable = entity.renderer().getRenderable();
+                if (renderable != null && (topLeft.x() + dimensions.x() < viewLeft || topLeft.x() > viewRight
+                        || topLeft.y() + dimensions.y() < viewTop || topLeft.y() > viewBottom)) {
+                    culledObjects.add(entity);
+                    culledRenderables.add(renderable);
+                    entity.renderer().setRenderable(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the renderables of the culled objects, before the next tick.
+     */
+    void restore() {
+        for (int i = 0; i < culledObjects.size(); i++) {
+            culledObjects.get(i).renderer().setRenderable(culledRenderables.get(i));
+        }
+        culledObjects.clear();
+        culledRenderables.clear();
+    }
+}
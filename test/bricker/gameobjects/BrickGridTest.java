@@ -0,0 +1,117 @@
+package bricker.gameobjects;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.Constants;
+import bricker.main.FrameProfiler;
+import bricker.main.GameTools;
+import bricker.main.KeyInput;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hits, removals and swept collisions of a BrickGrid whose bricks remove themselves when hit.
+ */
+class BrickGridTest {
+    private static final int NUM_COLS = 4;
+    private static final int NUM_ROWS = 3;
+    private static final float CELL_WIDTH = 50;
+    private static final float ROW_PITCH = 20;
+    private static final float BRICK_HEIGHT = 15;
+    private static final float BALL_SIZE = 10;
+    private static final float BALL_LEFT = 70;
+    private static final float BOTTOM_ROW_BOTTOM = NUM_ROWS * ROW_PITCH + BRICK_HEIGHT;
+    private static final float EPSILON = 1e-3f;
+
+    private BrickGrid grid;
+    private GameTools tools;
+
+    @BeforeEach
+    void fillGrid() {
+        BrickerGameManager game = new BrickerGameManager(Constants.WINDOW_TITLE, Constants.WINDOW_DIMENSIONS);
+        game.initializeHeadless(KeyInput.NONE);
+        tools = game.getGameTools();
+        grid = new BrickGrid(NUM_COLS, NUM_ROWS, CELL_WIDTH, ROW_PITCH, BRICK_HEIGHT,
+                Constants.WINDOW_DIMENSIONS.y());
+        for (int index = 0; index < grid.getNumCells(); index++) {
+            grid.addBrick(index, 0);
+        }
+        FrameProfiler profiler = new FrameProfiler(false, 0, Constants.FRAME_BUDGET);
+        grid.materializeVisible(index -> new Brick(grid.getCellTopLeft(index),
+                new Vector2(CELL_WIDTH, BRICK_HEIGHT), null, (brick, other) -> grid.removeBrick(brick),
+                profiler));
+    }
+
+    @Test
+    void hitRemovesTheBrickAndBouncesTheBall() {
+        Ball ball = moveBall(100, 45);
+
+        assertFalse(grid.isAlive(cellOf(NUM_ROWS - 1)));
+        assertTrue(grid.isAlive(cellOf(NUM_ROWS - 2)));
+        assertEquals(1, ball.getCollisionCounter());
+        assertTrue(ball.getVelocity().y() > 0);
+        assertTrue(ball.getTopLeftCorner().y() >= BOTTOM_ROW_BOTTOM);
+    }
+
+    @Test
+    void removedBrickLetsTheBallThroughToTheRowBehind() {
+        Ball ball = moveBall(100, 45);
+        moveBall(ball.getTopLeftCorner().y(), 45);
+
+        assertFalse(grid.isAlive(cellOf(NUM_ROWS - 1)));
+        assertFalse(grid.isAlive(cellOf(NUM_ROWS - 2)));
+        assertTrue(grid.isAlive(cellOf(0)));
+        assertTrue(grid.isAlive(cellOf(NUM_ROWS - 1) + 1));
+    }
+
+    @Test
+    void fastBallDoesNotTunnelThroughABrick() {
+        float start = 300;
+        float end = -200;
+        Ball ball = moveBall(start, end);
+
+        assertFalse(grid.isAlive(cellOf(NUM_ROWS - 1)));
+        assertTrue(grid.isAlive(cellOf(NUM_ROWS - 2)));
+        assertTrue(grid.isAlive(cellOf(0)));
+        assertEquals(1, ball.getCollisionCounter());
+        // the ball bounces off the bottom row and travels the rest of the tick back down
+        float rest = (start - end) - (start - BOTTOM_ROW_BOTTOM);
+        assertEquals(BOTTOM_ROW_BOTTOM + rest, ball.getTopLeftCorner().y(), EPSILON);
+    }
+
+    @Test
+    void rejectsStrategyIdsThatDoNotFitInAByte() {
+        assertThrows(IllegalArgumentException.class, () -> grid.addBrick(0, 256));
+        assertThrows(IllegalArgumentException.class, () -> grid.addBrick(0, -1));
+        grid.addBrick(0, 200);
+        assertEquals(200, grid.getStrategyId(0));
+    }
+
+    /**
+     * Moves a new ball straight up or down through the second column of the grid in a single tick.
+     *
+     * @param fromTop The top of the ball at the start of the tick.
+     * @param toTop   The top of the ball at the end of the tick, before colliding.
+     * @return The ball, after colliding with the grid.
+     */
+    private Ball moveBall(float fromTop, float toTop) {
+        Ball ball = new Ball(new Vector2(BALL_LEFT, toTop), new Vector2(BALL_SIZE, BALL_SIZE), null, null,
+                tools);
+        ball.setVelocity(new Vector2(0, toTop - fromTop));
+        grid.collide(ball, new Vector2(BALL_LEFT, fromTop));
+        return ball;
+    }
+
+    /**
+     * @param row A row of the grid.
+     * @return The index of the cell in the row that the ball moves through.
+     */
+    private static int cellOf(int row) {
+        return row * NUM_COLS + (int) (BALL_LEFT / CELL_WIDTH);
+    }
+}
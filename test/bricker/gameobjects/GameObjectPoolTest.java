@@ -0,0 +1,42 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Acquiring, releasing and recycling objects of a GameObjectPool.
+ */
+class GameObjectPoolTest {
+    private final GameObjectPool<GameObject> pool =
+            new GameObjectPool<>(() -> new GameObject(Vector2.ZERO, Vector2.ONES, null));
+
+    @Test
+    void releasedObjectIsNotReusedBeforeRecycle() {
+        GameObject first = pool.acquire();
+        pool.release(first);
+
+        GameObject second = pool.acquire();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getCreatedCount());
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(1, pool.getAvailableCount());
+    }
+
+    @Test
+    void recycledObjectIsReusedWithoutCreatingAnother() {
+        GameObject first = pool.acquire();
+        pool.release(first);
+        pool.recycle();
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(2, pool.getAcquiredCount());
+        assertEquals(0, pool.getAvailableCount());
+    }
+}
@@ -0,0 +1,136 @@
+package bricker.main;
+
+import danogl.util.Vector2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips of InputRecorder recordings through InputReplay.
+ */
+class InputReplayTest {
+    private static final long SEED = 42;
+    private static final int MAX_FRAMES = 20_000;
+    private static final int FRAMES_PER_MOVE = 45;
+    private static final float MIN_FRAME_TIME = 1f / 144;
+    private static final float MAX_FRAME_TIME = 1f / 30;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replaysTheRecordedFrameTimesAndKeysExactly() throws IOException {
+        Path path = tempDir.resolve("frames.rec");
+        GameSetup setup = newGame(Constants.WINDOW_DIMENSIONS).getSetup();
+        InputRecorder recorder = new InputRecorder(new ScriptedPlayer(), path, setup);
+        Random frameTimes = new Random(SEED);
+        float[] recorded = new float[MAX_FRAMES];
+        int[] leftPressed = new int[MAX_FRAMES];
+        for (int i = 0; i < MAX_FRAMES; i++) {
+            recorded[i] = nextFrameTime(frameTimes);
+            recorder.beginFrame(recorded[i]);
+            leftPressed[i] = recorder.isKeyPressed(KeyEvent.VK_LEFT) ? 1 : 0;
+        }
+        recorder.close();
+
+        InputReplay replay = new InputReplay(path);
+        assertEquals(setup, replay.getSetup());
+        for (int i = 0; i < MAX_FRAMES; i++) {
+            assertTrue(replay.advance());
+            assertEquals(Float.floatToIntBits(recorded[i]), Float.floatToIntBits(replay.getFrameDeltaTime()));
+            assertEquals(leftPressed[i], replay.isKeyPressed(KeyEvent.VK_LEFT) ? 1 : 0);
+        }
+        assertFalse(replay.advance());
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    void replayingASeededGameReproducesItsResult() throws IOException {
+        Path path = tempDir.resolve("game.rec");
+        BrickerGameManager recordedGame = newGame(Constants.WINDOW_DIMENSIONS);
+        InputRecorder recorder = new InputRecorder(new ScriptedPlayer(), path, recordedGame.getSetup());
+        recordedGame.initializeHeadless(recorder);
+        Random frameTimes = new Random(SEED);
+        GameResult recordedResult = GameResult.IN_PROGRESS;
+        for (int i = 0; i < MAX_FRAMES && recordedResult == GameResult.IN_PROGRESS; i++) {
+            recordedResult = recordedGame.step(nextFrameTime(frameTimes));
+        }
+        recorder.close();
+
+        InputReplay replay = new InputReplay(path);
+        BrickerGameManager replayedGame = newGame(replay.getSetup().getWindowDimensions());
+        replay.checkSetup(replayedGame.getSetup());
+        replayedGame.initializeHeadless(replay);
+        GameResult replayedResult = GameResult.IN_PROGRESS;
+        while (replayedResult == GameResult.IN_PROGRESS && replay.advance()) {
+            replayedResult = replayedGame.step(replay.getFrameDeltaTime());
+        }
+        replay.close();
+
+        GameSummary recordedSummary = recordedGame.summarize();
+        GameSummary replayedSummary = replayedGame.summarize();
+        assertEquals(recordedResult, replayedResult);
+        assertEquals(recordedGame.getTickCount(), replayedGame.getTickCount());
+        assertEquals(recordedSummary.getLivesLost(), replayedSummary.getLivesLost());
+        assertEquals(recordedSummary.getBricksLeft(), replayedSummary.getBricksLeft());
+    }
+
+    @Test
+    void refusesToReplayInAnotherWindowSize() throws IOException {
+        Path path = tempDir.resolve("window.rec");
+        InputRecorder recorder = new InputRecorder(new ScriptedPlayer(), path,
+                newGame(Constants.WINDOW_DIMENSIONS).getSetup());
+        recorder.beginFrame(MIN_FRAME_TIME);
+        recorder.close();
+
+        InputReplay replay = new InputReplay(path);
+        GameSetup otherWindow = newGame(Constants.WINDOW_DIMENSIONS.mult(2)).getSetup();
+        assertThrows(IOException.class, () -> replay.checkSetup(otherWindow));
+        replay.close();
+    }
+
+    /**
+     * @param windowDimensions The dimensions of the game window.
+     * @return A new seeded game, to be initialized headless.
+     */
+    private static BrickerGameManager newGame(Vector2 windowDimensions) {
+        return new BrickerGameManager(Constants.WINDOW_TITLE, windowDimensions, Constants.DEF_NUM_BRICKS_IN_ROW,
+                Constants.DEF_NUM_ROWS, SEED);
+    }
+
+    /**
+     * @param random The source of the frame times.
+     * @return An uneven frame time, which no whole number of microseconds represents exactly.
+     */
+    private static float nextFrameTime(Random random) {
+        return MIN_FRAME_TIME + random.nextFloat() * (MAX_FRAME_TIME - MIN_FRAME_TIME);
+    }
+
+    /**
+     * A player who alternates between holding left and holding right, switching every FRAMES_PER_MOVE
+     * frames.
+     */
+    private static class ScriptedPlayer implements KeyInput {
+        private int frame = -1;
+
+        @Override
+        public void beginFrame(float deltaTime) {
+            frame++;
+        }
+
+        @Override
+        public boolean isKeyPressed(int keyCode) {
+            boolean movingLeft = (frame / FRAMES_PER_MOVE) % 2 == 0;
+            return keyCode == (movingLeft ? KeyEvent.VK_LEFT : KeyEvent.VK_RIGHT);
+        }
+    }
+}
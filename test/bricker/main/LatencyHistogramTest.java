@@ -0,0 +1,49 @@
+package bricker.main;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Percentiles of a LatencyHistogram, which are accurate to within an eighth of the recorded value.
+ */
+class LatencyHistogramTest {
+    private static final int NUM_SAMPLES = 1000;
+    private static final long NANOS_PER_SAMPLE = 1000;
+    private static final double RELATIVE_ERROR = 1.0 / 8;
+
+    @Test
+    void percentileIsWithinTheBucketOfTheExactValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= NUM_SAMPLES; i++) {
+            histogram.record(i * NANOS_PER_SAMPLE);
+        }
+
+        assertEquals(NUM_SAMPLES, histogram.getCount());
+        assertEquals(NUM_SAMPLES * NANOS_PER_SAMPLE, histogram.getMax());
+        assertWithinError(500 * NANOS_PER_SAMPLE, histogram.getPercentile(0.5));
+        assertWithinError(990 * NANOS_PER_SAMPLE, histogram.getPercentile(0.99));
+        assertEquals(histogram.getMax(), histogram.getPercentile(1));
+    }
+
+    @Test
+    void resetForgetsEverySample() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(NANOS_PER_SAMPLE);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    /**
+     * @param expected The exact percentile.
+     * @param actual   The percentile reported by the histogram, which may only round up.
+     */
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * (1 + RELATIVE_ERROR),
+                "expected about " + expected + " but was " + actual);
+    }
+}
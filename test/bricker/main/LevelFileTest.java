@@ -0,0 +1,103 @@
+package bricker.main;
+
+import bricker.gameobjects.BrickGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writing a LevelFile, loading it back into a BrickGrid, and refusing corrupt files.
+ */
+class LevelFileTest {
+    private static final int NUM_BRICKS_IN_ROW = 5;
+    private static final int NUM_ROWS = 4;
+    private static final int NUM_CELLS = NUM_BRICKS_IN_ROW * NUM_ROWS;
+    private static final int EMPTY_EVERY = 3;
+    private static final int MAX_HEALTH = 3;
+    private static final int STRATEGY_ID_OFFSET = 10;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadsTheCellsThatWereWritten() throws IOException {
+        Path path = tempDir.resolve("level.bin");
+        LevelFile.write(path, NUM_BRICKS_IN_ROW, NUM_ROWS, LevelFileTest::strategyOf,
+                index -> 1 + index % MAX_HEALTH);
+
+        LevelFile level = new LevelFile(path);
+        assertEquals(NUM_BRICKS_IN_ROW, level.getNumBricksInRow());
+        assertEquals(NUM_ROWS, level.getNumRows());
+        assertTrue(level.hasHealth());
+        BrickGrid grid = new BrickGrid(NUM_BRICKS_IN_ROW, NUM_ROWS, 1, 1, 1, NUM_ROWS + 1);
+        int numBricks = level.load(grid, stratNum -> stratNum + STRATEGY_ID_OFFSET);
+
+        int expectedBricks = 0;
+        for (int index = 0; index < NUM_CELLS; index++) {
+            int stratNum = strategyOf(index);
+            assertEquals(stratNum != LevelFile.EMPTY_CELL, grid.isAlive(index));
+            if (stratNum != LevelFile.EMPTY_CELL) {
+                assertEquals(stratNum + STRATEGY_ID_OFFSET, grid.getStrategyId(index));
+                expectedBricks++;
+            }
+        }
+        assertEquals(expectedBricks, numBricks);
+    }
+
+    @Test
+    void checksumTellsLevelsOfTheSameSizeApart() throws IOException {
+        Path first = tempDir.resolve("first.bin");
+        Path second = tempDir.resolve("second.bin");
+        LevelFile.write(first, NUM_BRICKS_IN_ROW, NUM_ROWS, LevelFileTest::strategyOf, null);
+        LevelFile.write(second, NUM_BRICKS_IN_ROW, NUM_ROWS, index -> 0, null);
+
+        assertFalse(new LevelFile(first).hasHealth());
+        assertEquals(new LevelFile(first).getChecksum(), new LevelFile(first).getChecksum());
+        assertNotEquals(new LevelFile(first).getChecksum(), new LevelFile(second).getChecksum());
+    }
+
+    @Test
+    void refusesATruncatedFile() throws IOException {
+        Path path = tempDir.resolve("truncated.bin");
+        LevelFile.write(path, NUM_BRICKS_IN_ROW, NUM_ROWS, LevelFileTest::strategyOf, null);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> new LevelFile(path));
+    }
+
+    @Test
+    void refusesAnUnknownStrategyNumber() throws IOException {
+        Path path = tempDir.resolve("unknown.bin");
+        LevelFile.write(path, NUM_BRICKS_IN_ROW, NUM_ROWS,
+                index -> index == NUM_CELLS - 1 ? Constants.STRATEGY_NAMES.length : 0, null);
+
+        assertThrows(IOException.class, () -> new LevelFile(path));
+    }
+
+    @Test
+    void refusesAFileThatIsNotALevel() throws IOException {
+        Path path = tempDir.resolve("other.bin");
+        Files.write(path, new byte[NUM_CELLS * 2]);
+
+        assertThrows(IOException.class, () -> new LevelFile(path));
+    }
+
+    /**
+     * @param index A cell index.
+     * @return The strategy number of the cell in the test level, leaving every EMPTY_EVERY-th cell empty.
+     */
+    private static int strategyOf(int index) {
+        return index % EMPTY_EVERY == 0 ? LevelFile.EMPTY_CELL : index % Constants.STRATEGY_NAMES.length;
+    }
+}